@@ -0,0 +1,136 @@
+package com.fhtiger.helper.utils;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * ByteSink
+ * 将字符直接写入字节数组或{@link ByteBuffer}的{@link Appendable}，ASCII字符按单字节写出，其余字符按UTF-8编码
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 16:50
+ */
+final class ByteSink implements Appendable {
+
+	private final byte[] array;
+
+	private final ByteBuffer buffer;
+
+	private int position;
+
+	private final int limit;
+
+	/**
+	 * 待配对的高代理字符，无时为0
+	 */
+	private char pendingHigh;
+
+	/**
+	 * @param array  目标数组
+	 * @param offset 起始位置
+	 */
+	ByteSink(byte[] array, int offset) {
+		if (offset < 0 || offset > array.length) {
+			throw new IndexOutOfBoundsException("offset " + offset + " out of bounds for length " + array.length);
+		}
+		this.array = array;
+		this.buffer = null;
+		this.position = offset;
+		this.limit = array.length;
+	}
+
+	/**
+	 * @param buffer 目标缓冲区，从其当前位置开始写入
+	 */
+	ByteSink(ByteBuffer buffer) {
+		this.array = null;
+		this.buffer = buffer;
+		this.position = buffer.position();
+		this.limit = buffer.limit();
+	}
+
+	/**
+	 * @return 写入结束位置
+	 */
+	int position() {
+		return position;
+	}
+
+	@Override
+	public ByteSink append(CharSequence csq) {
+		CharSequence text = csq == null ? "null" : csq;
+		return append(text, 0, text.length());
+	}
+
+	@Override
+	public ByteSink append(CharSequence csq, int start, int end) {
+		CharSequence text = csq == null ? "null" : csq;
+		for (int i = start; i < end; i++) {
+			append(text.charAt(i));
+		}
+		return this;
+	}
+
+	@Override
+	public ByteSink append(char c) {
+		if (pendingHigh != 0) {
+			char high = pendingHigh;
+			pendingHigh = 0;
+			if (Character.isLowSurrogate(c)) {
+				int codePoint = Character.toCodePoint(high, c);
+				put(0xF0 | codePoint >> 18);
+				put(0x80 | codePoint >> 12 & 0x3F);
+				put(0x80 | codePoint >> 6 & 0x3F);
+				put(0x80 | codePoint & 0x3F);
+				return this;
+			}
+			/*孤立的代理字符与String.getBytes(UTF_8)一致写为'?'*/
+			put('?');
+		}
+		if (c < 0x80) {
+			put(c);
+		} else if (c < 0x800) {
+			put(0xC0 | c >> 6);
+			put(0x80 | c & 0x3F);
+		} else if (Character.isHighSurrogate(c)) {
+			pendingHigh = c;
+		} else if (Character.isLowSurrogate(c)) {
+			put('?');
+		} else {
+			put(0xE0 | c >> 12);
+			put(0x80 | c >> 6 & 0x3F);
+			put(0x80 | c & 0x3F);
+		}
+		return this;
+	}
+
+	/**
+	 * 写出末尾未配对的代理字符并返回结束位置
+	 *
+	 * @return 写入结束位置
+	 */
+	int finish() {
+		if (pendingHigh != 0) {
+			pendingHigh = 0;
+			put('?');
+		}
+		if (buffer != null) {
+			buffer.position(position);
+		}
+		return position;
+	}
+
+	private void put(int b) {
+		if (position >= limit) {
+			if (buffer != null) {
+				throw new BufferOverflowException();
+			}
+			throw new IndexOutOfBoundsException("index " + position + " out of bounds for length " + limit);
+		}
+		if (array != null) {
+			array[position++] = (byte) b;
+		} else {
+			buffer.put(position++, (byte) b);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.fhtiger.helper.utils;
+
+import com.fhtiger.helper.utils.helpful.AssertDetect;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * CachedClock
+ * 由后台守护线程定时刷新的粗粒度时钟，读取当前时间仅为一次volatile读
+ * <p>
+ * 适用于高频读取当前时间且可接受一个刷新周期误差的场景(如响应缓存头、日志时间)，
+ * 可通过{@link TimeUtil#useClock(Clock)}作为{@link TimeUtil}的时钟来源。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 16:05
+ */
+@SuppressWarnings({ "unused" })
+
+public final class CachedClock extends Clock {
+
+	private static volatile CachedClock shared;
+
+	private final Ticker ticker;
+
+	private final ZoneId zone;
+
+	private CachedClock(Ticker ticker, ZoneId zone) {
+		this.ticker = ticker;
+		this.zone = zone;
+	}
+
+	/**
+	 * 共享的毫秒级时钟(每毫秒刷新一次)，首次调用时启动刷新线程
+	 *
+	 * @return {@link CachedClock}
+	 */
+	public static CachedClock shared() {
+		CachedClock clock = shared;
+		if (clock == null) {
+			synchronized (CachedClock.class) {
+				if ((clock = shared) == null) {
+					shared = clock = start(1);
+				}
+			}
+		}
+		return clock;
+	}
+
+	/**
+	 * 启动一个新的时钟
+	 *
+	 * @param tickMillis 刷新周期(毫秒)
+	 * @return {@link CachedClock}
+	 */
+	public static CachedClock start(long tickMillis) {
+		AssertDetect.test(tickMillis > 0, "刷新周期必须大于0");
+		Ticker ticker = new Ticker(tickMillis);
+		ticker.start();
+		return new CachedClock(ticker, ZoneId.systemDefault());
+	}
+
+	/**
+	 * 停止刷新，停止后时间不再变化(共享时钟不可停止)
+	 */
+	public void stop() {
+		CachedClock clock = shared;
+		AssertDetect.test(clock == null || clock.ticker != ticker, "共享时钟不可停止");
+		ticker.running = false;
+		LockSupport.unpark(ticker);
+	}
+
+	/**
+	 * @return 刷新周期(毫秒)
+	 */
+	public long tickMillis() {
+		return ticker.tickMillis;
+	}
+
+	@Override
+	public long millis() {
+		return ticker.millis;
+	}
+
+	@Override
+	public Instant instant() {
+		return Instant.ofEpochMilli(ticker.millis);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		return zone.equals(this.zone) ? this : new CachedClock(ticker, zone);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof CachedClock && ((CachedClock) obj).ticker == ticker && ((CachedClock) obj).zone.equals(zone);
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(ticker) ^ zone.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "CachedClock[" + zone + ", tick=" + ticker.tickMillis + "ms]";
+	}
+
+	private static final class Ticker extends Thread {
+
+		private final long tickMillis;
+
+		private volatile long millis = System.currentTimeMillis();
+
+		private volatile boolean running = true;
+
+		Ticker(long tickMillis) {
+			super("cached-clock-ticker");
+			this.tickMillis = tickMillis;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+			while (running) {
+				long now = System.currentTimeMillis();
+				millis = now;
+				/*顺带定期核对默认时区(每秒至多一次)*/
+				ZoneOffsetTable.systemDefault(now);
+				LockSupport.parkNanos(this, tickNanos);
+			}
+		}
+	}
+}
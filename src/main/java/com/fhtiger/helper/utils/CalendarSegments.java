@@ -0,0 +1,140 @@
+package com.fhtiger.helper.utils;
+
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
+
+/**
+ * CalendarSegments
+ * 按日历边界(整点、零点、ISO周一、月初、季初、年初)对纪元毫秒区间分段，全部以纪元毫秒运算
+ * <p>
+ * 首个分界点为起始时间之后的第一个日历边界，此后每隔{@code separate}个边界取一个分界点；
+ * 整点按实际经过的时间逐小时推进，在偏移变更点处重新对齐，夏令时间隙中不存在的整点被跳过，重叠时两个整点都会出现；
+ * 零点及更大单位的边界取当地零点，零点处于间隙时取间隙结束的时刻(与{@link java.time.LocalDate#atStartOfDay(java.time.ZoneId)}一致)。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 17:20
+ */
+final class CalendarSegments {
+
+	private CalendarSegments() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	/**
+	 * 按日历边界分段
+	 *
+	 * @param start    起始纪元毫秒
+	 * @param separate 每段包含的边界单位数(非0)
+	 * @param unit     {@link ChronoUnit#HOURS},{@link ChronoUnit#DAYS},{@link ChronoUnit#WEEKS},{@link ChronoUnit#MONTHS},{@link IsoFields#QUARTER_YEARS},{@link ChronoUnit#YEARS}
+	 * @param end      结束纪元毫秒
+	 * @param zone     时区偏移表
+	 * @return 分段分界点，第i段为[bounds[i],bounds[i+1]]
+	 */
+	static long[] bounds(long start, int separate, TemporalUnit unit, long end, ZoneOffsetTable zone) {
+		if (start > end) {
+			long it = start;
+			start = end;
+			end = it;
+		}
+		long step = Math.abs((long) separate);
+		LongList bounds = new LongList();
+		bounds.add(start);
+		if (unit == ChronoUnit.HOURS) {
+			hours(start, step, end, zone, bounds);
+		} else if (unit == ChronoUnit.DAYS) {
+			long day = EpochMath.epochDayOf(zone.toLocal(start)) + 1;
+			days(day, step, end, zone, bounds);
+		} else if (unit == ChronoUnit.WEEKS) {
+			long day = EpochMath.epochDayOf(zone.toLocal(start));
+			/*1970-01-01为周四，以周一为一周起始*/
+			days(day - Math.floorMod(day + 3, 7) + 7, Math.multiplyExact(step, 7L), end, zone, bounds);
+		} else if (unit == ChronoUnit.MONTHS) {
+			months(start, 1, step, end, zone, bounds);
+		} else if (unit == IsoFields.QUARTER_YEARS) {
+			months(start, 3, step, end, zone, bounds);
+		} else if (unit == ChronoUnit.YEARS) {
+			months(start, 12, step, end, zone, bounds);
+		} else {
+			throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+		}
+		bounds.add(end);
+		return bounds.toArray();
+	}
+
+	/**
+	 * 整点：同一偏移内每隔一小时，跨越偏移变更点时按变更后的偏移重新对齐
+	 */
+	private static void hours(long start, long step, long end, ZoneOffsetTable zone, LongList bounds) {
+		long hour = EpochMath.MILLIS_PER_HOUR;
+		int offset = zone.offsetAtEpoch(start);
+		long transition = zone.nextTransition(start);
+		long candidate = start - Math.floorMod(start + offset, hour) + hour;
+		long skipped = 0;
+		while (true) {
+			/*下一个整点之前发生偏移变更时，从变更点起按新偏移对齐*/
+			while (transition <= candidate) {
+				offset = zone.offsetAtEpoch(transition);
+				candidate = transition + Math.floorMod(-(transition + offset), hour);
+				transition = zone.nextTransition(transition);
+			}
+			if (candidate >= end) {
+				return;
+			}
+			if (skipped++ % step == 0) {
+				bounds.add(candidate);
+			}
+			candidate += hour;
+		}
+	}
+
+	/**
+	 * 当地零点：从纪元日firstDay起每隔step天
+	 */
+	private static void days(long firstDay, long step, long end, ZoneOffsetTable zone, LongList bounds) {
+		for (long day = firstDay; ; day += step) {
+			long bound = zone.toEpoch(day * EpochMath.MILLIS_PER_DAY);
+			if (bound >= end) {
+				return;
+			}
+			bounds.add(bound);
+		}
+	}
+
+	/**
+	 * 月初：边界为unitMonths的整数倍月份的1日零点，每隔step个边界
+	 */
+	private static void months(long start, int unitMonths, long step, long end, ZoneOffsetTable zone, LongList bounds) {
+		long civil = EpochMath.civil(EpochMath.epochDayOf(zone.toLocal(start)));
+		long monthIndex = EpochMath.year(civil) * 12 + EpochMath.month(civil) - 1;
+		long stepMonths = Math.multiplyExact(step, (long) unitMonths);
+		for (long index = (Math.floorDiv(monthIndex, unitMonths) + 1) * unitMonths; ; index += stepMonths) {
+			long day = EpochMath.epochDay(Math.floorDiv(index, 12), Math.floorMod(index, 12) + 1, 1);
+			long bound = zone.toEpoch(day * EpochMath.MILLIS_PER_DAY);
+			if (bound >= end) {
+				return;
+			}
+			bounds.add(bound);
+		}
+	}
+
+	private static final class LongList {
+
+		private long[] values = new long[16];
+
+		private int size;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size << 1);
+			}
+			values[size++] = value;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
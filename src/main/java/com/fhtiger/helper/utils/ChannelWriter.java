@@ -0,0 +1,256 @@
+package com.fhtiger.helper.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ChannelWriter
+ * 以{@link FileChannel}写文件：字符内容按固定大小的缓冲分块编码后写出，不生成完整的字节数组
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 19:55
+ */
+final class ChannelWriter {
+
+	private ChannelWriter() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	/**
+	 * 编码缓冲大小
+	 */
+	static final int CHUNK = 64 * 1024;
+
+	private static final OpenOption[] TRUNCATE = { StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING };
+
+	private static final OpenOption[] APPEND = { StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND };
+
+	/**
+	 * 写入字符内容
+	 *
+	 * @param path    文件
+	 * @param content 内容
+	 * @param charset 字符集
+	 * @param append  是否追加
+	 * @return 写入字节数
+	 * @throws IOException 写入失败时
+	 */
+	static long write(Path path, CharSequence content, Charset charset, boolean append) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, append ? APPEND : TRUNCATE)) {
+			return encode(channel, content, encoder(charset), ByteBuffer.allocateDirect(CHUNK));
+		}
+	}
+
+	/**
+	 * 聚集写入多个片段：片段依次编码到同一块缓冲的不同区段，缓冲写满时一次写出全部区段
+	 *
+	 * @param path      文件
+	 * @param fragments 片段
+	 * @param charset   字符集
+	 * @param append    是否追加
+	 * @return 写入字节数
+	 * @throws IOException 写入失败时
+	 */
+	static long write(Path path, List<? extends CharSequence> fragments, Charset charset, boolean append) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, append ? APPEND : TRUNCATE)) {
+			return gather(channel, fragments, charset);
+		}
+	}
+
+	/**
+	 * 聚集写入字节片段
+	 *
+	 * @param path      文件
+	 * @param fragments 片段，写入后位置移至末尾
+	 * @param append    是否追加
+	 * @return 写入字节数
+	 * @throws IOException 写入失败时
+	 */
+	static long write(Path path, ByteBuffer[] fragments, boolean append) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, append ? APPEND : TRUNCATE)) {
+			return writeFully(channel, fragments, 0, fragments.length);
+		}
+	}
+
+	/**
+	 * 先写入同目录下的临时文件并落盘，再以重命名替换目标文件，读者不会看到写了一半的内容；
+	 * 目标文件已存在时保留其权限及属主、属组，不存在时按默认权限创建
+	 *
+	 * @param path    文件
+	 * @param content 内容
+	 * @param charset 字符集
+	 * @return 写入字节数
+	 * @throws IOException 写入或替换失败时
+	 */
+	static long writeAtomic(Path path, CharSequence content, Charset charset) throws IOException {
+		Path target = path.toAbsolutePath();
+		Path temp;
+		FileChannel channel;
+		while (true) {
+			temp = target.resolveSibling(target.getFileName().toString() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+			try {
+				/*不使用Files.createTempFile，其创建的文件权限为0600；此处按默认权限(受umask约束)新建*/
+				channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+				break;
+			} catch (FileAlreadyExistsException e) {
+				/*重名时换一个名称*/
+			}
+		}
+		try {
+			long written;
+			try (FileChannel out = channel) {
+				written = encode(out, content, encoder(charset), ByteBuffer.allocateDirect(CHUNK));
+				out.force(true);
+			}
+			copyPermissions(target, temp);
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			return written;
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+	}
+
+	/**
+	 * 目标文件已存在时，将其POSIX权限及属主、属组复制到临时文件，替换后权限保持不变；属主、属组无权修改时保留默认值
+	 */
+	private static void copyPermissions(Path target, Path temp) throws IOException {
+		PosixFileAttributeView view = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+		if (view == null || !Files.exists(target)) {
+			return;
+		}
+		PosixFileAttributes attributes = view.readAttributes();
+		PosixFileAttributeView tempView = Files.getFileAttributeView(temp, PosixFileAttributeView.class);
+		try {
+			tempView.setGroup(attributes.group());
+		} catch (IOException e) {
+			/*无权修改属组*/
+		}
+		try {
+			tempView.setOwner(attributes.owner());
+		} catch (IOException e) {
+			/*无权修改属主*/
+		}
+		tempView.setPermissions(attributes.permissions());
+	}
+
+	private static CharsetEncoder encoder(Charset charset) {
+		/*与String#getBytes一致，无法编码的字符以替换字节写出*/
+		return charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	/**
+	 * 以out为缓冲分块编码并写出，out须为空
+	 */
+	private static long encode(FileChannel channel, CharSequence content, CharsetEncoder encoder, ByteBuffer out) throws IOException {
+		encoder.reset();
+		CharBuffer in = CharBuffer.wrap(content);
+		long written = 0;
+		while (true) {
+			CoderResult result = encoder.encode(in, out, true);
+			if (result.isOverflow()) {
+				written += drain(channel, out);
+				continue;
+			}
+			check(result);
+			break;
+		}
+		while (true) {
+			CoderResult result = encoder.flush(out);
+			written += drain(channel, out);
+			if (!result.isOverflow()) {
+				check(result);
+				return written;
+			}
+		}
+	}
+
+	private static long gather(FileChannel channel, List<? extends CharSequence> fragments, Charset charset) throws IOException {
+		CharsetEncoder encoder = encoder(charset);
+		ByteBuffer arena = ByteBuffer.allocateDirect(CHUNK);
+		List<ByteBuffer> slices = new ArrayList<>();
+		long written = 0;
+		for (CharSequence fragment : fragments) {
+			if (fragment == null || fragment.length() == 0) {
+				continue;
+			}
+			/*单个片段至多编码为maxBytesPerChar倍字节，放不下缓冲剩余空间时先写出已有区段*/
+			long bound = (long) Math.ceil(fragment.length() * (double) encoder.maxBytesPerChar());
+			if (bound > arena.remaining()) {
+				written += flushSlices(channel, slices);
+				arena.clear();
+			}
+			if (bound > arena.remaining()) {
+				written += encode(channel, fragment, encoder, arena);
+				continue;
+			}
+			int start = arena.position();
+			encoder.reset();
+			check(encoder.encode(CharBuffer.wrap(fragment), arena, true));
+			check(encoder.flush(arena));
+			slices.add(arena.duplicate().position(start).limit(arena.position()).slice());
+		}
+		return written + flushSlices(channel, slices);
+	}
+
+	private static long flushSlices(FileChannel channel, List<ByteBuffer> slices) throws IOException {
+		if (slices.isEmpty()) {
+			return 0;
+		}
+		ByteBuffer[] buffers = slices.toArray(new ByteBuffer[0]);
+		slices.clear();
+		return writeFully(channel, buffers, 0, buffers.length);
+	}
+
+	private static long writeFully(FileChannel channel, ByteBuffer[] buffers, int offset, int length) throws IOException {
+		long written = 0;
+		int first = offset;
+		int end = offset + length;
+		while (first < end) {
+			written += channel.write(buffers, first, end - first);
+			while (first < end && !buffers[first].hasRemaining()) {
+				first++;
+			}
+		}
+		return written;
+	}
+
+	private static long drain(FileChannel channel, ByteBuffer out) throws IOException {
+		out.flip();
+		long written = 0;
+		while (out.hasRemaining()) {
+			written += channel.write(out);
+		}
+		out.clear();
+		return written;
+	}
+
+	private static void check(CoderResult result) throws CharacterCodingException {
+		if (result.isError()) {
+			result.throwException();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package com.fhtiger.helper.utils;
+
+import java.util.Objects;
+
+/**
+ * CharSlice
+ * 字符序列或字符数组中一段的视图，不复制字符，调用{@link #toString()}时才创建字符串
+ * <p>
+ * 未重写equals/hashCode，比较内容使用{@link #contentEquals(CharSequence)}或{@link CharSequence#compare(CharSequence, CharSequence)}。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 21:00
+ */
+@SuppressWarnings({ "unused" })
+
+public final class CharSlice implements CharSequence {
+
+	private final CharSequence source;
+
+	private final char[] chars;
+
+	private final int offset;
+
+	private final int length;
+
+	private CharSlice(CharSequence source, char[] chars, int offset, int length) {
+		this.source = source;
+		this.chars = chars;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * @param source 字符序列
+	 * @param from   起始位置(含)
+	 * @param to     结束位置(不含)
+	 * @return source中[from,to)的视图
+	 */
+	public static CharSlice of(CharSequence source, int from, int to) {
+		Objects.checkFromToIndex(from, to, source.length());
+		return new CharSlice(source, null, from, to - from);
+	}
+
+	/**
+	 * @param chars 字符数组
+	 * @param from  起始位置(含)
+	 * @param to    结束位置(不含)
+	 * @return chars中[from,to)的视图，数组内容改变时视图随之改变
+	 */
+	public static CharSlice of(char[] chars, int from, int to) {
+		Objects.checkFromToIndex(from, to, chars.length);
+		return new CharSlice(null, chars, from, to - from);
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		Objects.checkIndex(index, length);
+		return chars != null ? chars[offset + index] : source.charAt(offset + index);
+	}
+
+	@Override
+	public CharSlice subSequence(int start, int end) {
+		Objects.checkFromToIndex(start, end, length);
+		return new CharSlice(source, chars, offset + start, end - start);
+	}
+
+	/**
+	 * 内容是否与给定字符序列相同
+	 *
+	 * @param other 字符序列
+	 * @return boolean
+	 */
+	public boolean contentEquals(CharSequence other) {
+		if (other == null || other.length() != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (charAt(i) != other.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return chars != null ? new String(chars, offset, length) : source.subSequence(offset, offset + length).toString();
+	}
+}
@@ -0,0 +1,139 @@
+package com.fhtiger.helper.utils;
+
+import com.fhtiger.helper.utils.TimeUtil.DateType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * DateTypeSniffer
+ * 单次扫描识别字符串所属的预定义{@link DateType}
+ * <p>
+ * 先将字符串切分为数字串、字母串与单个字面量组成的形态，再与各格式预先编译的形态比对，
+ * 形态吻合的格式再经一次快速扫描确认取值合法。定长格式优先于变长格式(如 yyyy-MM-dd 优先于 yyyy-M-d)。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 14:02
+ */
+final class DateTypeSniffer {
+
+	private static final DateTypeSniffer INSTANCE = new DateTypeSniffer();
+
+	private final Candidate[] candidates;
+
+	/**
+	 * 候选格式中最多的形态元素个数
+	 */
+	private final int maxTokens;
+
+	private DateTypeSniffer() {
+		DateType[] predefined = { DateType.A, DateType.A1, DateType.A2, DateType.A3, DateType.B, DateType.B1, DateType.B2, DateType.B3, DateType.C, DateType.C1, DateType.C2, DateType.D, DateType.D1, DateType.D2, DateType.D3, DateType.D4, DateType.D5, DateType.E0, DateType.E, DateType.E1, DateType.E2, DateType.F, DateType.F1, DateType.YE, DateType.YE1 };
+		List<Candidate> compiled = new ArrayList<>(predefined.length);
+		int max = 0;
+		for (DateType type : predefined) {
+			FastDateFormatter formatter = type.fastFormatter();
+			int[] shape = formatter.shape();
+			if (shape != null) {
+				compiled.add(new Candidate(type, formatter, shape));
+				max = Math.max(max, shape.length);
+			}
+		}
+		/*变长数字越少越优先，稳定排序保持声明顺序*/
+		compiled.sort(Comparator.comparingInt(c -> variableCount(c.shape())));
+		this.candidates = compiled.toArray(new Candidate[0]);
+		this.maxTokens = max;
+	}
+
+	private static int variableCount(int[] shape) {
+		int count = 0;
+		for (int token : shape) {
+			if ((token & FastDateFormatter.SHAPE_DIGITS) != 0 && (token >> 8 & 0xFF) != (token & 0xFF)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 识别字符串所属的预定义格式
+	 *
+	 * @param text 字符串
+	 * @return {@link DateType}，无法识别时为null
+	 */
+	static DateType sniff(CharSequence text) {
+		return INSTANCE.detect(text);
+	}
+
+	private DateType detect(CharSequence text) {
+		if (text == null) {
+			return null;
+		}
+		int length = text.length();
+		int[] tokens = new int[maxTokens];
+		int count = 0;
+		for (int i = 0; i < length; ) {
+			if (count == maxTokens) {
+				return null;
+			}
+			char c = text.charAt(i);
+			int j = i + 1;
+			if (isDigit(c)) {
+				while (j < length && isDigit(text.charAt(j))) {
+					j++;
+				}
+				tokens[count++] = FastDateFormatter.SHAPE_DIGITS | Math.min(j - i, 0xFF);
+			} else if (isLetter(c)) {
+				while (j < length && isLetter(text.charAt(j))) {
+					j++;
+				}
+				tokens[count++] = FastDateFormatter.SHAPE_TEXT;
+			} else {
+				tokens[count++] = c;
+			}
+			i = j;
+		}
+		if (count == 0) {
+			return null;
+		}
+		for (Candidate candidate : candidates) {
+			if (matches(candidate.shape(), tokens, count) && candidate.formatter().parseLocal(text) != FastDateFormatter.INVALID) {
+				return candidate.type();
+			}
+		}
+		return null;
+	}
+
+	private static boolean matches(int[] shape, int[] tokens, int count) {
+		if (shape.length != count) {
+			return false;
+		}
+		for (int i = 0; i < count; i++) {
+			int expected = shape[i];
+			int actual = tokens[i];
+			if ((expected & FastDateFormatter.SHAPE_DIGITS) != 0) {
+				if ((actual & FastDateFormatter.SHAPE_DIGITS) == 0) {
+					return false;
+				}
+				int digits = actual & 0xFF;
+				if (digits < (expected >> 8 & 0xFF) || digits > (expected & 0xFF)) {
+					return false;
+				}
+			} else if (expected != actual) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private record Candidate(DateType type, FastDateFormatter formatter, int[] shape) {
+	}
+}
@@ -0,0 +1,200 @@
+package com.fhtiger.helper.utils;
+
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * EpochMath
+ * 基于纪元日/纪元毫秒的公历算术，全部以基本类型计算，不创建日期对象
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 11:05
+ */
+final class EpochMath {
+
+	private EpochMath() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	static final long MILLIS_PER_SECOND = 1000L;
+
+	static final long MILLIS_PER_MINUTE = 60_000L;
+
+	static final long MILLIS_PER_HOUR = 3_600_000L;
+
+	static final long MILLIS_PER_DAY = 86_400_000L;
+
+	/**
+	 * 是否闰年
+	 *
+	 * @param year 年
+	 * @return boolean
+	 */
+	static boolean isLeap(long year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * 月份天数
+	 *
+	 * @param year  年
+	 * @param month 月[1-12]
+	 * @return 天数
+	 */
+	static int monthLength(long year, int month) {
+		switch (month) {
+		case 2:
+			return isLeap(year) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
+	/**
+	 * 年月日转纪元日(1970-01-01为0)
+	 *
+	 * @param year  年
+	 * @param month 月[1-12]
+	 * @param day   日
+	 * @return 纪元日
+	 */
+	static long epochDay(long year, int month, int day) {
+		long y = month <= 2 ? year - 1 : year;
+		long era = Math.floorDiv(y, 400);
+		long yoe = y - era * 400;
+		long doy = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+		long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097 + doe - 719468;
+	}
+
+	/**
+	 * 纪元日转年月日，打包为 year&lt;&lt;16|month&lt;&lt;8|day
+	 *
+	 * @param epochDay 纪元日
+	 * @return 打包的年月日，使用{@link #year(long)},{@link #month(long)},{@link #day(long)}读取
+	 */
+	static long civil(long epochDay) {
+		long z = epochDay + 719468;
+		long era = Math.floorDiv(z, 146097);
+		long doe = z - era * 146097;
+		long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		long mp = (5 * doy + 2) / 153;
+		long d = doy - (153 * mp + 2) / 5 + 1;
+		long m = mp < 10 ? mp + 3 : mp - 9;
+		long y = yoe + era * 400 + (m <= 2 ? 1 : 0);
+		return (y << 16) | (m << 8) | d;
+	}
+
+	static long year(long civil) {
+		return civil >> 16;
+	}
+
+	static int month(long civil) {
+		return (int) (civil >> 8) & 0xFF;
+	}
+
+	static int day(long civil) {
+		return (int) civil & 0xFF;
+	}
+
+	/**
+	 * 本地日期时间字段转本地纪元毫秒(不含时区偏移)
+	 *
+	 * @return 本地纪元毫秒
+	 */
+	static long localMillis(long year, int month, int day, int hour, int minute, int second, int millis) {
+		return epochDay(year, month, day) * MILLIS_PER_DAY + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND + millis;
+	}
+
+	/**
+	 * 本地纪元毫秒所在日的纪元日
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @return 纪元日
+	 */
+	static long epochDayOf(long localMillis) {
+		return Math.floorDiv(localMillis, MILLIS_PER_DAY);
+	}
+
+	/**
+	 * 本地纪元毫秒在当日内的毫秒数
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @return 当日毫秒数
+	 */
+	static int millisOfDay(long localMillis) {
+		return (int) Math.floorMod(localMillis, MILLIS_PER_DAY);
+	}
+
+	/**
+	 * 以{@link java.time.LocalDateTime#plusMonths(long)}的规则加减月份(日超出当月天数时取当月最后一天)
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @param months      月数
+	 * @return 本地纪元毫秒
+	 */
+	static long plusMonths(long localMillis, long months) {
+		if (months == 0) {
+			return localMillis;
+		}
+		long civil = civil(epochDayOf(localMillis));
+		long monthCount = year(civil) * 12 + (month(civil) - 1) + months;
+		long year = Math.floorDiv(monthCount, 12);
+		int month = Math.floorMod(monthCount, 12) + 1;
+		int day = Math.min(day(civil), monthLength(year, month));
+		return epochDay(year, month, day) * MILLIS_PER_DAY + millisOfDay(localMillis);
+	}
+
+	/**
+	 * 以{@link java.time.LocalDateTime#plus(long, java.time.temporal.TemporalUnit)}的规则在本地时间上加减
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @param amount      数量
+	 * @param unit        单位
+	 * @return 本地纪元毫秒
+	 */
+	static long plus(long localMillis, long amount, ChronoUnit unit) {
+		switch (unit) {
+		case MONTHS:
+			return plusMonths(localMillis, amount);
+		case YEARS:
+			return plusMonths(localMillis, Math.multiplyExact(amount, 12L));
+		case DECADES:
+			return plusMonths(localMillis, Math.multiplyExact(amount, 120L));
+		case CENTURIES:
+			return plusMonths(localMillis, Math.multiplyExact(amount, 1200L));
+		case MILLENNIA:
+			return plusMonths(localMillis, Math.multiplyExact(amount, 12000L));
+		case ERAS:
+		case FOREVER:
+			throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+		default:
+			return Math.addExact(localMillis, fixedMillis(amount, unit));
+		}
+	}
+
+	/**
+	 * 固定长度单位(毫秒至周)的毫秒数
+	 *
+	 * @param amount 数量
+	 * @param unit   单位
+	 * @return 毫秒数
+	 */
+	static long fixedMillis(long amount, ChronoUnit unit) {
+		long nanos = unit.getDuration().toNanos();
+		if (nanos >= 1_000_000L) {
+			return Math.multiplyExact(amount, nanos / 1_000_000L);
+		}
+		long total = Math.multiplyExact(amount, nanos);
+		if (total % 1_000_000L != 0) {
+			throw new IllegalArgumentException("时间跨度必须为整毫秒: " + amount + " " + unit);
+		}
+		return total / 1_000_000L;
+	}
+}
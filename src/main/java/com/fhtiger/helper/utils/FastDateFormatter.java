@@ -0,0 +1,527 @@
+package com.fhtiger.helper.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * FastDateFormatter
+ * 将日期格式编译为逐字符的数字扫描程序，直接在{@link CharSequence}与纪元毫秒之间转换，过程中不创建中间对象
+ * <p>
+ * 支持 yyyy,M,MM,MMM,d,dd,H,HH,m,mm,s,ss,S-SSS 及非字母字面量；
+ * 其余格式(或扫描失败的输入)交由{@link TimeUtil.Engine#ED}处理，结果与其保持一致。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 11:40
+ */
+final class FastDateFormatter {
+
+	/**
+	 * 扫描失败标识
+	 */
+	static final long INVALID = Long.MIN_VALUE;
+
+	private static final int LITERAL = 0;
+	private static final int YEAR = 1;
+	private static final int MONTH = 2;
+	private static final int DAY = 3;
+	private static final int HOUR = 4;
+	private static final int MINUTE = 5;
+	private static final int SECOND = 6;
+	private static final int FRACTION = 7;
+	private static final int MONTH_TEXT = 8;
+
+	private static final int[] FRACTION_SCALE = { 0, 100, 10, 1 };
+
+	/**
+	 * 形态标记：数字串，低16位为 最小位数&lt;&lt;8|最大位数
+	 */
+	static final int SHAPE_DIGITS = 1 << 24;
+
+	/**
+	 * 形态标记：字母串(月份文本)
+	 */
+	static final int SHAPE_TEXT = 2 << 24;
+
+	private final String pattern;
+
+	private final DateTimeFormatter fallback;
+
+	/**
+	 * 编译结果，格式不受支持时为null
+	 */
+	private final int[] kinds;
+	private final int[] minWidths;
+	private final int[] maxWidths;
+	private final char[] literals;
+	private final String[] monthTexts;
+
+	/**
+	 * 格式字段从年开始连续覆盖的层级(1:年 2:月 3:日 4:时 5:分 6:秒)，不连续或含毫秒时为0
+	 */
+	private final int truncateDepth;
+
+	FastDateFormatter(String pattern, Locale locale) {
+		this.pattern = pattern;
+		this.fallback = (DateTimeFormatter) TimeUtil.Engine.ED.formatter(pattern, locale);
+
+		int length = pattern.length();
+		int[] kinds = new int[length];
+		int[] minWidths = new int[length];
+		int[] maxWidths = new int[length];
+		char[] literals = new char[length];
+		String[] monthTexts = null;
+		int size = 0;
+		boolean supported = true;
+
+		for (int i = 0; i < length && supported; ) {
+			char c = pattern.charAt(i);
+			int count = 1;
+			if (isPatternLetter(c)) {
+				while (i + count < length && pattern.charAt(i + count) == c) {
+					count++;
+				}
+			}
+			int kind = LITERAL;
+			int min = count;
+			int max = count;
+			switch (c) {
+			case 'y':
+				kind = YEAR;
+				supported = count == 4;
+				break;
+			case 'M':
+				if (count == 3) {
+					kind = MONTH_TEXT;
+					monthTexts = monthTexts(locale);
+				} else {
+					kind = MONTH;
+					supported = count <= 2;
+				}
+				break;
+			case 'd':
+				kind = DAY;
+				supported = count <= 2;
+				break;
+			case 'H':
+				kind = HOUR;
+				supported = count <= 2;
+				break;
+			case 'm':
+				kind = MINUTE;
+				supported = count <= 2;
+				break;
+			case 's':
+				kind = SECOND;
+				supported = count <= 2;
+				break;
+			case 'S':
+				kind = FRACTION;
+				supported = count <= 3;
+				break;
+			case '\'':
+			case '[':
+			case ']':
+			case '{':
+			case '}':
+			case '#':
+				supported = false;
+				break;
+			default:
+				supported = !isPatternLetter(c);
+			}
+			if (kind != LITERAL && kind != MONTH_TEXT && kind != FRACTION && count == 1) {
+				max = 2;
+			}
+			/*变长数字与其它数字字段相邻时无法确定边界，不做编译*/
+			if (supported && size > 0 && isNumeric(kind) && isNumeric(kinds[size - 1]) && (min != max || minWidths[size - 1] != maxWidths[size - 1])) {
+				supported = false;
+			}
+			kinds[size] = kind;
+			minWidths[size] = min;
+			maxWidths[size] = max;
+			literals[size] = c;
+			size++;
+			i += count;
+		}
+
+		if (supported) {
+			this.kinds = Arrays.copyOf(kinds, size);
+			this.minWidths = Arrays.copyOf(minWidths, size);
+			this.maxWidths = Arrays.copyOf(maxWidths, size);
+			this.literals = Arrays.copyOf(literals, size);
+			this.monthTexts = monthTexts;
+			this.truncateDepth = truncateDepth(this.kinds);
+		} else {
+			this.kinds = null;
+			this.minWidths = null;
+			this.maxWidths = null;
+			this.literals = null;
+			this.monthTexts = null;
+			this.truncateDepth = 0;
+		}
+	}
+
+	private static int truncateDepth(int[] kinds) {
+		int mask = 0;
+		for (int kind : kinds) {
+			int level;
+			switch (kind) {
+			case LITERAL:
+				continue;
+			case YEAR:
+				level = 1;
+				break;
+			case MONTH:
+			case MONTH_TEXT:
+				level = 2;
+				break;
+			case DAY:
+				level = 3;
+				break;
+			case HOUR:
+				level = 4;
+				break;
+			case MINUTE:
+				level = 5;
+				break;
+			case SECOND:
+				level = 6;
+				break;
+			default:
+				/*毫秒在各引擎中含义不同(SimpleDateFormat中为毫秒数而非小数)，不做截断*/
+				return 0;
+			}
+			int bit = 1 << (level - 1);
+			if ((mask & bit) != 0) {
+				return 0;
+			}
+			mask |= bit;
+		}
+		int depth = Integer.bitCount(mask);
+		return mask == (1 << depth) - 1 ? depth : 0;
+	}
+
+	private static boolean isPatternLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isNumeric(int kind) {
+		return kind != LITERAL && kind != MONTH_TEXT;
+	}
+
+	private static String[] monthTexts(Locale locale) {
+		DateTimeFormatter formatter = locale == null ? DateTimeFormatter.ofPattern("MMM") : DateTimeFormatter.ofPattern("MMM", locale);
+		String[] texts = new String[12];
+		for (int m = 0; m < 12; m++) {
+			texts[m] = formatter.format(LocalDate.of(2000, m + 1, 1));
+		}
+		return texts;
+	}
+
+	/**
+	 * 是否已编译为快速扫描程序
+	 *
+	 * @return boolean
+	 */
+	boolean compiled() {
+		return kinds != null;
+	}
+
+	String pattern() {
+		return pattern;
+	}
+
+	DateTimeFormatter fallback() {
+		return fallback;
+	}
+
+	/**
+	 * 格式的字符形态：相邻的定长数字字段合并为一个数字串，字面量保留原字符
+	 *
+	 * @return 形态序列，未编译时为null
+	 */
+	int[] shape() {
+		if (kinds == null) {
+			return null;
+		}
+		int[] shape = new int[kinds.length];
+		int size = 0;
+		for (int i = 0; i < kinds.length; i++) {
+			int kind = kinds[i];
+			if (kind == LITERAL) {
+				shape[size++] = literals[i];
+			} else if (kind == MONTH_TEXT) {
+				shape[size++] = SHAPE_TEXT;
+			} else if (size > 0 && (shape[size - 1] & SHAPE_DIGITS) != 0) {
+				int previous = shape[size - 1];
+				shape[size - 1] = SHAPE_DIGITS | ((previous >> 8 & 0xFF) + minWidths[i]) << 8 | ((previous & 0xFF) + maxWidths[i]);
+			} else {
+				shape[size++] = SHAPE_DIGITS | minWidths[i] << 8 | maxWidths[i];
+			}
+		}
+		return Arrays.copyOf(shape, size);
+	}
+
+	/**
+	 * 扫描字符串为本地纪元毫秒(不含时区偏移)
+	 *
+	 * @param text 日期字符串
+	 * @return 本地纪元毫秒，未编译或扫描失败时为{@link #INVALID}
+	 */
+	long parseLocal(CharSequence text) {
+		if (kinds == null || text == null) {
+			return INVALID;
+		}
+		int length = text.length();
+		int pos = 0;
+		long year = 1970;
+		int month = 1, day = 1, hour = 0, minute = 0, second = 0, millis = 0;
+		for (int i = 0, size = kinds.length; i < size; i++) {
+			int kind = kinds[i];
+			if (kind == LITERAL) {
+				if (pos >= length || text.charAt(pos) != literals[i]) {
+					return INVALID;
+				}
+				pos++;
+				continue;
+			}
+			if (kind == MONTH_TEXT) {
+				int matched = 0;
+				for (int m = 0; m < 12; m++) {
+					String name = monthTexts[m];
+					int nameLength = name.length();
+					if (nameLength > (matched >>> 8) && regionMatches(text, pos, name)) {
+						matched = nameLength << 8 | (m + 1);
+					}
+				}
+				if (matched == 0) {
+					return INVALID;
+				}
+				month = matched & 0xFF;
+				pos += matched >>> 8;
+				continue;
+			}
+			int max = Math.min(maxWidths[i], length - pos);
+			int value = 0;
+			int n = 0;
+			while (n < max) {
+				char c = text.charAt(pos + n);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				value = value * 10 + (c - '0');
+				n++;
+			}
+			if (n < minWidths[i]) {
+				return INVALID;
+			}
+			pos += n;
+			switch (kind) {
+			case YEAR:
+				year = value;
+				break;
+			case MONTH:
+				month = value;
+				break;
+			case DAY:
+				day = value;
+				break;
+			case HOUR:
+				hour = value;
+				break;
+			case MINUTE:
+				minute = value;
+				break;
+			case SECOND:
+				second = value;
+				break;
+			default:
+				millis = value * FRACTION_SCALE[n];
+			}
+		}
+		/*越界或需要修正(如4月31日)的值交由ED处理*/
+		if (pos != length || year < 1 || month < 1 || month > 12 || day < 1 || day > EpochMath.monthLength(year, month) || hour > 23 || minute > 59 || second > 59) {
+			return INVALID;
+		}
+		return EpochMath.localMillis(year, month, day, hour, minute, second, millis);
+	}
+
+	/**
+	 * 按格式所含字段截断本地纪元毫秒，与按格式写出后再解析的结果一致(如 yyyy-MM-dd HH:mm 截断到分钟)
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @return 截断后的本地纪元毫秒，字段不是从年开始的连续字段(如缺少年份、含毫秒)或年份超出[1,9999]时为{@link #INVALID}
+	 */
+	long truncateLocal(long localMillis) {
+		if (truncateDepth == 0) {
+			return INVALID;
+		}
+		long epochDay = EpochMath.epochDayOf(localMillis);
+		long civil = EpochMath.civil(epochDay);
+		long year = EpochMath.year(civil);
+		if (year < 1 || year > 9999) {
+			return INVALID;
+		}
+		switch (truncateDepth) {
+		case 1:
+			return EpochMath.epochDay(year, 1, 1) * EpochMath.MILLIS_PER_DAY;
+		case 2:
+			return EpochMath.epochDay(year, EpochMath.month(civil), 1) * EpochMath.MILLIS_PER_DAY;
+		case 3:
+			return epochDay * EpochMath.MILLIS_PER_DAY;
+		case 4:
+			return localMillis - Math.floorMod(localMillis, EpochMath.MILLIS_PER_HOUR);
+		case 5:
+			return localMillis - Math.floorMod(localMillis, EpochMath.MILLIS_PER_MINUTE);
+		default:
+			return localMillis - Math.floorMod(localMillis, EpochMath.MILLIS_PER_SECOND);
+		}
+	}
+
+	private static boolean regionMatches(CharSequence text, int offset, String name) {
+		int nameLength = name.length();
+		if (offset + nameLength > text.length()) {
+			return false;
+		}
+		for (int i = 0; i < nameLength; i++) {
+			if (text.charAt(offset + i) != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 将本地纪元毫秒按格式写出
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @param out         输出目标
+	 * @return 未编译或年份超出[1,9999]时返回false且不写出任何内容
+	 * @throws IOException -
+	 */
+	boolean formatLocal(long localMillis, Appendable out) throws IOException {
+		if (kinds == null) {
+			return false;
+		}
+		long civil = EpochMath.civil(EpochMath.epochDayOf(localMillis));
+		long year = EpochMath.year(civil);
+		if (year < 1 || year > 9999) {
+			return false;
+		}
+		int millisOfDay = EpochMath.millisOfDay(localMillis);
+		for (int i = 0, size = kinds.length; i < size; i++) {
+			switch (kinds[i]) {
+			case LITERAL:
+				out.append(literals[i]);
+				break;
+			case MONTH_TEXT:
+				out.append(monthTexts[EpochMath.month(civil) - 1]);
+				break;
+			case YEAR:
+				appendPadded(out, (int) year, 4);
+				break;
+			case MONTH:
+				appendPadded(out, EpochMath.month(civil), minWidths[i]);
+				break;
+			case DAY:
+				appendPadded(out, EpochMath.day(civil), minWidths[i]);
+				break;
+			case HOUR:
+				appendPadded(out, millisOfDay / 3_600_000, minWidths[i]);
+				break;
+			case MINUTE:
+				appendPadded(out, millisOfDay / 60_000 % 60, minWidths[i]);
+				break;
+			case SECOND:
+				appendPadded(out, millisOfDay / 1000 % 60, minWidths[i]);
+				break;
+			default:
+				appendPadded(out, millisOfDay % 1000 / FRACTION_SCALE[minWidths[i]], minWidths[i]);
+			}
+		}
+		return true;
+	}
+
+	private static void appendPadded(Appendable out, int value, int width) throws IOException {
+		int digits = value < 10 ? 1 : value < 100 ? 2 : value < 1000 ? 3 : value < 10000 ? 4 : String.valueOf(value).length();
+		for (int i = digits; i < width; i++) {
+			out.append('0');
+		}
+		int divisor = 1;
+		for (int i = 1; i < digits; i++) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			out.append((char) ('0' + value / divisor % 10));
+		}
+	}
+
+	/**
+	 * 解析为纪元毫秒，失败时返回{@link #INVALID}；
+	 * 快速扫描失败时先以{@link DateTimeFormatter#parseUnresolved}确认格式，仅格式匹配而值需修正或非法时才经由异常判定
+	 *
+	 * @param text 日期字符串
+	 * @param zone 时区偏移表
+	 * @return 纪元毫秒或{@link #INVALID}
+	 */
+	long parseEpochQuietly(CharSequence text, ZoneOffsetTable zone) {
+		long local = parseLocal(text);
+		if (local != INVALID) {
+			return zone.toEpoch(local);
+		}
+		if (text == null) {
+			return INVALID;
+		}
+		ParsePosition position = new ParsePosition(0);
+		if (fallback.parseUnresolved(text, position) == null || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+			return INVALID;
+		}
+		try {
+			return TimeUtil.Engine.ED.parseDate(fallback, text.toString()).getTime();
+		} catch (DateTimeException e) {
+			return INVALID;
+		}
+	}
+
+	/**
+	 * 解析为{@link Date}，快速扫描失败时交由{@link TimeUtil.Engine#ED}
+	 *
+	 * @param text 日期字符串
+	 * @return {@link Date}
+	 */
+	Date parseDate(String text) {
+		long local = parseLocal(text);
+		if (local == INVALID) {
+			return TimeUtil.Engine.ED.parseDate(fallback, text);
+		}
+		return new Date(ZoneOffsetTable.systemDefault().toEpoch(local));
+	}
+
+	/**
+	 * 格式化{@link Date}，无法快速格式化时交由{@link TimeUtil.Engine#ED}
+	 *
+	 * @param date {@link Date}
+	 * @return 日期字符串
+	 */
+	String formatDate(Date date) {
+		/*java.sql.Date与java.sql.Time有特定的本地时间转换规则，保持与ED一致*/
+		if (kinds != null && !(date instanceof java.sql.Date) && !(date instanceof java.sql.Time)) {
+			StringBuilder out = new StringBuilder(pattern.length() + 8);
+			try {
+				if (formatLocal(ZoneOffsetTable.systemDefault().toLocal(date.getTime()), out)) {
+					return out.toString();
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return TimeUtil.Engine.ED.formatDate(fallback, date);
+	}
+}
@@ -0,0 +1,342 @@
+package com.fhtiger.helper.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * LiteralTokenizer
+ * 按字面分隔符惰性分段：只在取下一段时向后扫描，只消费前几段时不会处理其余内容
+ * <p>
+ * 分段规则同StringValueUtil#splitLiteralTo：中间的空段保留，尾部空段舍弃，分隔符为空时整体作为一段，内容为空时没有分段。
+ * 各段以{@link CharSlice}视图给出，可在过滤之后再转为字符串。
+ * <p>
+ * 对{@link Reader}分段时只保留当前段所在的缓冲，缓冲容纳不下单个段时才扩容；
+ * 段视图指向该缓冲，仅在处理当前段时有效，需要保留时调用toString()。读取失败抛出{@link UncheckedIOException}，Reader由调用方关闭。
+ * e.g. <br>LiteralTokenizer.slices(payload, ",").filter(s -&gt; s.length() &gt; 0).limit(10).map(CharSequence::toString);
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 21:00
+ */
+@SuppressWarnings({ "unused" })
+
+public final class LiteralTokenizer {
+
+	private LiteralTokenizer() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	/**
+	 * Reader的默认缓冲大小
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final CharSlice EMPTY = CharSlice.of(new char[0], 0, 0);
+
+	/**
+	 * @param source    字符序列
+	 * @param delimiter 分隔符
+	 * @return 分段的{@link Spliterator}(不可拆分)
+	 */
+	public static Spliterator<CharSequence> spliterator(CharSequence source, String delimiter) {
+		return new SequenceTokens(source, delimiter);
+	}
+
+	/**
+	 * @param source    字符序列
+	 * @param delimiter 分隔符
+	 * @return 分段视图的迭代器
+	 */
+	public static Iterator<CharSequence> iterator(CharSequence source, String delimiter) {
+		return Spliterators.iterator(spliterator(source, delimiter));
+	}
+
+	/**
+	 * @param source    字符序列
+	 * @param delimiter 分隔符
+	 * @return 分段视图的流
+	 */
+	public static Stream<CharSequence> slices(CharSequence source, String delimiter) {
+		return StreamSupport.stream(spliterator(source, delimiter), false);
+	}
+
+	/**
+	 * @param source    字符序列
+	 * @param delimiter 分隔符
+	 * @return 分段字符串的流
+	 */
+	public static Stream<String> stream(CharSequence source, String delimiter) {
+		return slices(source, delimiter).map(CharSequence::toString);
+	}
+
+	/**
+	 * @param reader     字符输入
+	 * @param delimiter  分隔符
+	 * @param bufferSize 初始缓冲大小
+	 * @return 分段的{@link Spliterator}(不可拆分)，段视图仅在处理当前段时有效
+	 */
+	public static Spliterator<CharSequence> spliterator(Reader reader, String delimiter, int bufferSize) {
+		return new ReaderTokens(reader, delimiter, bufferSize);
+	}
+
+	/**
+	 * @param reader     字符输入
+	 * @param delimiter  分隔符
+	 * @param bufferSize 初始缓冲大小
+	 * @return 分段视图的迭代器，段视图仅在取下一段之前有效
+	 */
+	public static Iterator<CharSequence> iterator(Reader reader, String delimiter, int bufferSize) {
+		return Spliterators.iterator(spliterator(reader, delimiter, bufferSize));
+	}
+
+	/**
+	 * @param reader     字符输入
+	 * @param delimiter  分隔符
+	 * @param bufferSize 初始缓冲大小
+	 * @return 分段视图的流，段视图仅在处理当前段时有效
+	 */
+	public static Stream<CharSequence> slices(Reader reader, String delimiter, int bufferSize) {
+		return StreamSupport.stream(spliterator(reader, delimiter, bufferSize), false);
+	}
+
+	/**
+	 * @param reader    字符输入
+	 * @param delimiter 分隔符
+	 * @return 分段字符串的流，缓冲大小为{@link #DEFAULT_BUFFER_SIZE}
+	 */
+	public static Stream<String> stream(Reader reader, String delimiter) {
+		return slices(reader, delimiter, DEFAULT_BUFFER_SIZE).map(CharSequence::toString);
+	}
+
+	/**
+	 * 分段的公共部分：空段先计数，遇到非空段时再依次给出，扫描到末尾仍未遇到非空段的即为尾部空段
+	 */
+	private abstract static class Tokens implements Spliterator<CharSequence> {
+
+		final String delimiter;
+
+		final int step;
+
+		/**
+		 * 已找到、尚未给出的非空段，没有时为-1
+		 */
+		int tokenFrom = -1;
+
+		int tokenTo;
+
+		private int pendingEmpty;
+
+		Tokens(String delimiter) {
+			this.delimiter = delimiter;
+			this.step = delimiter.length();
+		}
+
+		/**
+		 * 找到下一段(可能为空)，设置tokenFrom/tokenTo
+		 *
+		 * @return 已到末尾时为false
+		 */
+		abstract boolean scan();
+
+		abstract CharSlice slice(int from, int to);
+
+		@Override
+		public boolean tryAdvance(Consumer<? super CharSequence> action) {
+			while (tokenFrom < 0) {
+				if (!scan()) {
+					return false;
+				}
+				if (tokenFrom == tokenTo) {
+					pendingEmpty++;
+					tokenFrom = -1;
+				}
+			}
+			if (pendingEmpty > 0) {
+				pendingEmpty--;
+				action.accept(EMPTY);
+				return true;
+			}
+			CharSlice token = slice(tokenFrom, tokenTo);
+			tokenFrom = -1;
+			action.accept(token);
+			return true;
+		}
+
+		@Override
+		public Spliterator<CharSequence> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL;
+		}
+	}
+
+	private static final class SequenceTokens extends Tokens {
+
+		private final CharSequence source;
+
+		private final int length;
+
+		private int from;
+
+		SequenceTokens(CharSequence source, String delimiter) {
+			super(delimiter);
+			this.source = source;
+			this.length = source.length();
+		}
+
+		@Override
+		boolean scan() {
+			if (from >= length) {
+				return false;
+			}
+			int to = step == 0 ? -1 : indexOf(from);
+			if (to < 0) {
+				to = length;
+			}
+			tokenFrom = from;
+			tokenTo = to;
+			from = to == length ? length : to + step;
+			/*以分隔符结尾时，其后的空段为尾部空段，不再给出*/
+			return true;
+		}
+
+		private int indexOf(int fromIndex) {
+			if (source instanceof String) {
+				return step == 1 ? ((String) source).indexOf(delimiter.charAt(0), fromIndex) : ((String) source).indexOf(delimiter, fromIndex);
+			}
+			char first = delimiter.charAt(0);
+			for (int i = fromIndex, last = length - step; i <= last; i++) {
+				if (source.charAt(i) == first && matches(i)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private boolean matches(int at) {
+			for (int k = 1; k < step; k++) {
+				if (source.charAt(at + k) != delimiter.charAt(k)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		CharSlice slice(int from, int to) {
+			return CharSlice.of(source, from, to);
+		}
+	}
+
+	private static final class ReaderTokens extends Tokens {
+
+		private final Reader reader;
+
+		private char[] buffer;
+
+		/**
+		 * 未处理内容的起始位置
+		 */
+		private int start;
+
+		/**
+		 * 已读入内容的结束位置
+		 */
+		private int limit;
+
+		private boolean eof;
+
+		ReaderTokens(Reader reader, String delimiter, int bufferSize) {
+			super(delimiter);
+			this.reader = reader;
+			this.buffer = new char[Math.max(bufferSize, Math.max(step, 16))];
+		}
+
+		@Override
+		boolean scan() {
+			int searchFrom = start;
+			while (true) {
+				int hit = step == 0 ? -1 : indexOf(searchFrom);
+				if (hit >= 0) {
+					tokenFrom = start;
+					tokenTo = hit;
+					start = hit + step;
+					return true;
+				}
+				if (eof) {
+					if (start == limit) {
+						return false;
+					}
+					tokenFrom = start;
+					tokenTo = limit;
+					start = limit;
+					return true;
+				}
+				/*分隔符可能跨越已读入内容的末尾，从末尾前step-1处继续查找*/
+				searchFrom = Math.max(start, limit - step + 1) - start;
+				fill();
+			}
+		}
+
+		/**
+		 * 将未处理内容移至缓冲开头(缓冲已满时扩容)后读入更多内容
+		 */
+		private void fill() {
+			if (start > 0) {
+				System.arraycopy(buffer, start, buffer, 0, limit - start);
+				limit -= start;
+				start = 0;
+			}
+			if (limit == buffer.length) {
+				buffer = Arrays.copyOf(buffer, buffer.length << 1);
+			}
+			try {
+				int read = reader.read(buffer, limit, buffer.length - limit);
+				if (read < 0) {
+					eof = true;
+				} else {
+					limit += read;
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private int indexOf(int fromIndex) {
+			char first = delimiter.charAt(0);
+			outer:
+			for (int i = fromIndex, last = limit - step; i <= last; i++) {
+				if (buffer[i] != first) {
+					continue;
+				}
+				for (int k = 1; k < step; k++) {
+					if (buffer[i + k] != delimiter.charAt(k)) {
+						continue outer;
+					}
+				}
+				return i;
+			}
+			return -1;
+		}
+
+		@Override
+		CharSlice slice(int from, int to) {
+			return CharSlice.of(buffer, from, to);
+		}
+	}
+}
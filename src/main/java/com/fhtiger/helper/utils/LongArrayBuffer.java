@@ -0,0 +1,116 @@
+package com.fhtiger.helper.utils;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * LongArrayBuffer
+ * 可重复使用的long数组缓冲(非线程安全)
+ * <p>
+ * 同一线程中反复解析ID列表时，以{@link StringValueUtil#splitToLongArray(String, String, LongArrayBuffer)}写入同一个缓冲，
+ * 容量足够时不再分配数组。
+ * e.g. <br>LongArrayBuffer ids = new LongArrayBuffer();
+ * <br>StringValueUtil.splitToLongArray(value, ",", ids).size();
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 20:40
+ */
+@SuppressWarnings({ "unused" })
+
+public final class LongArrayBuffer {
+
+	private static final long[] EMPTY = {};
+
+	long[] elements;
+
+	int size;
+
+	public LongArrayBuffer() {
+		this(16);
+	}
+
+	/**
+	 * @param initialCapacity 初始容量
+	 */
+	public LongArrayBuffer(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		}
+		this.elements = initialCapacity == 0 ? EMPTY : new long[initialCapacity];
+	}
+
+	/**
+	 * @return 元素个数
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @param index 位置
+	 * @return 元素
+	 */
+	public long get(int index) {
+		Objects.checkIndex(index, size);
+		return elements[index];
+	}
+
+	/**
+	 * 追加元素
+	 *
+	 * @param value 元素
+	 * @return this
+	 */
+	public LongArrayBuffer add(long value) {
+		if (size == elements.length) {
+			ensureCapacity(size + 1);
+		}
+		elements[size++] = value;
+		return this;
+	}
+
+	/**
+	 * 清空元素，保留已分配的数组
+	 *
+	 * @return this
+	 */
+	public LongArrayBuffer clear() {
+		size = 0;
+		return this;
+	}
+
+	/**
+	 * @return 元素的副本
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * @return 元素流(直接读取缓冲，使用期间不应修改缓冲)
+	 */
+	public LongStream stream() {
+		return Arrays.stream(elements, 0, size);
+	}
+
+	/**
+	 * 保证容量不小于指定值，扩容时至少增长一半
+	 *
+	 * @param capacity 容量
+	 */
+	void ensureCapacity(int capacity) {
+		if (capacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1)));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
@@ -0,0 +1,328 @@
+package com.fhtiger.helper.utils;
+
+import java.math.BigDecimal;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * NumberParser
+ * 直接在{@link CharSequence}上解析数字，不截取子串也不通过异常报告失败
+ * <p>
+ * 首尾空白(与{@link String#trim()}一致，即不大于' '的字符)原地跳过；
+ * ASCII十进制格式在原序列上逐位解析，其余格式(非ASCII数字、科学计数法等)交由JDK的解析方法，结果与之一致。
+ * 空白或无法解析时，tryParse*返回空结果，parse*返回给定默认值。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 19:20
+ */
+@SuppressWarnings({ "unused" })
+
+public final class NumberParser {
+
+	private NumberParser() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	/**
+	 * 快速路径解析失败的标记；恰为Long.MIN_VALUE的输入由JDK解析方法确认
+	 */
+	static final long FAILED = Long.MIN_VALUE;
+
+	/**
+	 * 10^0 ~ 10^22，均可精确表示为double
+	 */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+			1e21, 1e22 };
+
+	/**
+	 * 尾数上限，小于2^53时尾数可精确表示
+	 */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	/**
+	 * 是否为null或仅含空白
+	 *
+	 * @param cs 字符序列
+	 * @return boolean
+	 */
+	public static boolean isBlank(CharSequence cs) {
+		return cs == null || start(cs) == cs.length();
+	}
+
+	/**
+	 * 解析整数
+	 *
+	 * @param cs 字符序列
+	 * @return 结果，空白或无法解析时为空
+	 */
+	public static OptionalInt tryParseInt(CharSequence cs) {
+		if (cs == null) {
+			return OptionalInt.empty();
+		}
+		int from = start(cs);
+		int to = end(cs, from);
+		if (from == to) {
+			return OptionalInt.empty();
+		}
+		long value = parseLong(cs, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		if (value != FAILED) {
+			return OptionalInt.of((int) value);
+		}
+		try {
+			return OptionalInt.of(Integer.parseInt(cs.subSequence(from, to).toString()));
+		} catch (NumberFormatException e) {
+			return OptionalInt.empty();
+		}
+	}
+
+	/**
+	 * 解析整数
+	 *
+	 * @param cs           字符序列
+	 * @param defaultValue 空白或无法解析时的取值
+	 * @return 结果
+	 */
+	public static int parseInt(CharSequence cs, int defaultValue) {
+		OptionalInt value = tryParseInt(cs);
+		return value.isPresent() ? value.getAsInt() : defaultValue;
+	}
+
+	/**
+	 * 解析长整数
+	 *
+	 * @param cs 字符序列
+	 * @return 结果，空白或无法解析时为空
+	 */
+	public static OptionalLong tryParseLong(CharSequence cs) {
+		if (cs == null) {
+			return OptionalLong.empty();
+		}
+		int from = start(cs);
+		int to = end(cs, from);
+		if (from == to) {
+			return OptionalLong.empty();
+		}
+		long value = parseLong(cs, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+		if (value != FAILED) {
+			return OptionalLong.of(value);
+		}
+		try {
+			return OptionalLong.of(Long.parseLong(cs.subSequence(from, to).toString()));
+		} catch (NumberFormatException e) {
+			return OptionalLong.empty();
+		}
+	}
+
+	/**
+	 * 解析长整数
+	 *
+	 * @param cs           字符序列
+	 * @param defaultValue 空白或无法解析时的取值
+	 * @return 结果
+	 */
+	public static long parseLong(CharSequence cs, long defaultValue) {
+		OptionalLong value = tryParseLong(cs);
+		return value.isPresent() ? value.getAsLong() : defaultValue;
+	}
+
+	/**
+	 * 解析浮点数，规则同{@link Double#parseDouble(String)}
+	 *
+	 * @param cs 字符序列
+	 * @return 结果，空白或无法解析时为空
+	 */
+	public static OptionalDouble tryParseDouble(CharSequence cs) {
+		if (cs == null) {
+			return OptionalDouble.empty();
+		}
+		int from = start(cs);
+		int to = end(cs, from);
+		if (from == to) {
+			return OptionalDouble.empty();
+		}
+		double value = parseDouble(cs, from, to);
+		if (!Double.isNaN(value)) {
+			return OptionalDouble.of(value);
+		}
+		try {
+			return OptionalDouble.of(Double.parseDouble(cs.subSequence(from, to).toString()));
+		} catch (NumberFormatException e) {
+			return OptionalDouble.empty();
+		}
+	}
+
+	/**
+	 * 解析浮点数，规则同{@link Double#parseDouble(String)}
+	 *
+	 * @param cs           字符序列
+	 * @param defaultValue 空白或无法解析时的取值
+	 * @return 结果
+	 */
+	public static double parseDouble(CharSequence cs, double defaultValue) {
+		OptionalDouble value = tryParseDouble(cs);
+		return value.isPresent() ? value.getAsDouble() : defaultValue;
+	}
+
+	/**
+	 * 解析{@link BigDecimal}，规则同{@link BigDecimal#BigDecimal(String)}
+	 *
+	 * @param cs 字符序列
+	 * @return 结果，空白或无法解析时为null
+	 */
+	public static BigDecimal tryParseBigDecimal(CharSequence cs) {
+		if (cs == null) {
+			return null;
+		}
+		int from = start(cs);
+		int to = end(cs, from);
+		if (from == to) {
+			return null;
+		}
+		BigDecimal value = parseBigDecimal(cs, from, to);
+		if (value != null) {
+			return value;
+		}
+		try {
+			return new BigDecimal(cs.subSequence(from, to).toString());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 跳过首部空白
+	 *
+	 * @return 首个非空白字符的位置
+	 */
+	static int start(CharSequence cs) {
+		int length = cs.length();
+		int i = 0;
+		while (i < length && cs.charAt(i) <= ' ') {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * 跳过尾部空白
+	 *
+	 * @return 末个非空白字符之后的位置
+	 */
+	static int end(CharSequence cs, int from) {
+		int i = cs.length();
+		while (i > from && cs.charAt(i - 1) <= ' ') {
+			i--;
+		}
+		return i;
+	}
+
+	/**
+	 * 快速路径：[+-]ASCII数字，按负数累加以覆盖最小值
+	 *
+	 * @return 结果，格式不符、越界或恰为{@link #FAILED}时为{@link #FAILED}
+	 */
+	static long parseLong(CharSequence cs, int from, int to, long min, long max) {
+		int i = from;
+		char first = cs.charAt(i);
+		boolean negative = first == '-';
+		if (negative || first == '+') {
+			i++;
+		}
+		if (i == to) {
+			return FAILED;
+		}
+		long limit = negative ? min : -max;
+		long multmin = limit / 10;
+		long result = 0;
+		for (; i < to; i++) {
+			int digit = cs.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || result < multmin) {
+				return FAILED;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return FAILED;
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * 快速路径：[+-]ASCII数字[.ASCII数字]，尾数小于2^53且小数位不超过22时一次除法即得正确舍入的结果
+	 *
+	 * @return 结果，不满足快速路径条件时为NaN
+	 */
+	static double parseDouble(CharSequence cs, int from, int to) {
+		int i = from;
+		char first = cs.charAt(i);
+		boolean negative = first == '-';
+		if (negative || first == '+') {
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int scale = -1;
+		for (; i < to; i++) {
+			char c = cs.charAt(i);
+			if (c == '.' && scale < 0) {
+				scale = 0;
+				continue;
+			}
+			int digit = c - '0';
+			if (digit < 0 || digit > 9) {
+				return Double.NaN;
+			}
+			mantissa = mantissa * 10 + digit;
+			if (mantissa >= MAX_EXACT_MANTISSA) {
+				return Double.NaN;
+			}
+			digits++;
+			if (scale >= 0) {
+				scale++;
+			}
+		}
+		if (digits == 0 || scale >= POWERS_OF_TEN.length) {
+			return Double.NaN;
+		}
+		double value = scale > 0 ? mantissa / POWERS_OF_TEN[scale] : (double) mantissa;
+		return negative ? -value : value;
+	}
+
+	/**
+	 * 快速路径：[+-]ASCII数字[.ASCII数字]，不超过18位数字时以非标度值与标度直接构造
+	 *
+	 * @return 结果，不满足快速路径条件时为null
+	 */
+	static BigDecimal parseBigDecimal(CharSequence cs, int from, int to) {
+		int i = from;
+		char first = cs.charAt(i);
+		boolean negative = first == '-';
+		if (negative || first == '+') {
+			i++;
+		}
+		long unscaled = 0;
+		int digits = 0;
+		int scale = -1;
+		for (; i < to; i++) {
+			char c = cs.charAt(i);
+			if (c == '.' && scale < 0) {
+				scale = 0;
+				continue;
+			}
+			int digit = c - '0';
+			if (digit < 0 || digit > 9 || ++digits > 18) {
+				return null;
+			}
+			unscaled = unscaled * 10 + digit;
+			if (scale >= 0) {
+				scale++;
+			}
+		}
+		if (digits == 0) {
+			return null;
+		}
+		return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+	}
+}
@@ -0,0 +1,270 @@
+package com.fhtiger.helper.utils;
+
+import java.math.BigDecimal;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * NumericAggregator
+ * 数值字符串的精确求和，替代SpecialUtil#getSum
+ * <p>
+ * 每个值解析为非标度值与标度后累加到long中，不创建包装对象；累加溢出时将已累加部分转入{@link BigDecimal}后继续以long累加，结果始终精确。
+ * null、空白及"null"按0计；其余无法解析的值抛出{@link NumberFormatException}。
+ * e.g. <br>NumericAggregator.sum(list).toBigDecimal();
+ * <br>stream.parallel().collect(NumericAggregator.summing());
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 19:40
+ */
+@SuppressWarnings({ "unused" })
+
+public final class NumericAggregator {
+
+	private NumericAggregator() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L,
+			100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+			1_000_000_000_000_000_000L };
+
+	/**
+	 * 可由long精确表示的最多数字位数
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * 对多个字符串值求和
+	 *
+	 * @param first  值
+	 * @param others 其余值
+	 * @return {@link Sum}
+	 */
+	public static Sum sum(CharSequence first, CharSequence... others) {
+		Sum sum = new Sum().add(first);
+		for (CharSequence value : others) {
+			sum.add(value);
+		}
+		return sum;
+	}
+
+	/**
+	 * 顺序求和
+	 *
+	 * @param values 值
+	 * @return {@link Sum}
+	 */
+	public static Sum sum(Iterable<? extends CharSequence> values) {
+		Sum sum = new Sum();
+		for (CharSequence value : values) {
+			sum.add(value);
+		}
+		return sum;
+	}
+
+	/**
+	 * 求和
+	 *
+	 * @param values   值
+	 * @param parallel 是否并行归约
+	 * @return {@link Sum}
+	 */
+	public static Sum sum(Iterable<? extends CharSequence> values, boolean parallel) {
+		return parallel ? StreamSupport.stream(values.spliterator(), true).collect(summing()) : sum(values);
+	}
+
+	/**
+	 * 求和，是否并行由流本身决定
+	 *
+	 * @param values 值
+	 * @return {@link Sum}
+	 */
+	public static Sum sum(Stream<? extends CharSequence> values) {
+		return values.collect(summing());
+	}
+
+	/**
+	 * 求和收集器，并行流中各分段分别累加后合并
+	 *
+	 * @return {@link Collector}
+	 */
+	public static Collector<CharSequence, Sum, Sum> summing() {
+		return Collector.of(Sum::new, Sum::add, Sum::combine, Collector.Characteristics.IDENTITY_FINISH);
+	}
+
+	/**
+	 * 累加器(非线程安全)
+	 */
+	public static final class Sum {
+
+		/**
+		 * long累加部分的非标度值
+		 */
+		private long unscaled;
+
+		/**
+		 * long累加部分的标度
+		 */
+		private int scale;
+
+		/**
+		 * 溢出转入的部分，无溢出时为null
+		 */
+		private BigDecimal overflow;
+
+		private long count;
+
+		/**
+		 * 累加一个数值字符串
+		 *
+		 * @param value 值，null、空白及"null"按0计
+		 * @return this
+		 * @throws NumberFormatException 无法解析时
+		 */
+		public Sum add(CharSequence value) {
+			count++;
+			if (value == null) {
+				return this;
+			}
+			int from = NumberParser.start(value);
+			int to = NumberParser.end(value, from);
+			if (from == to || to - from == 4 && isNullLiteral(value, from)) {
+				return this;
+			}
+			int i = from;
+			char first = value.charAt(i);
+			boolean negative = first == '-';
+			if (negative || first == '+') {
+				i++;
+			}
+			long digits = 0;
+			int digitCount = 0;
+			int valueScale = -1;
+			for (; i < to; i++) {
+				char c = value.charAt(i);
+				if (c == '.' && valueScale < 0) {
+					valueScale = 0;
+					continue;
+				}
+				int digit = c - '0';
+				if (digit < 0 || digit > 9 || ++digitCount > MAX_DIGITS) {
+					/*指数形式、超长数字等交由BigDecimal解析*/
+					return addOverflow(new BigDecimal(value.subSequence(from, to).toString()));
+				}
+				digits = digits * 10 + digit;
+				if (valueScale >= 0) {
+					valueScale++;
+				}
+			}
+			if (digitCount == 0) {
+				throw new NumberFormatException("For input string: \"" + value.subSequence(from, to) + "\"");
+			}
+			addScaled(negative ? -digits : digits, Math.max(valueScale, 0));
+			return this;
+		}
+
+		/**
+		 * 累加一个整数
+		 *
+		 * @param value 值
+		 * @return this
+		 */
+		public Sum add(long value) {
+			count++;
+			addScaled(value, 0);
+			return this;
+		}
+
+		/**
+		 * 合并另一个累加器
+		 *
+		 * @param other 累加器
+		 * @return this
+		 */
+		public Sum combine(Sum other) {
+			count += other.count;
+			if (other.overflow != null) {
+				addOverflow(other.overflow);
+			}
+			addScaled(other.unscaled, other.scale);
+			return this;
+		}
+
+		/**
+		 * @return 已累加的值个数(含按0计的值)
+		 */
+		public long count() {
+			return count;
+		}
+
+		/**
+		 * @return 精确的和
+		 */
+		public BigDecimal toBigDecimal() {
+			BigDecimal value = BigDecimal.valueOf(unscaled, scale);
+			return overflow == null ? value : overflow.add(value);
+		}
+
+		/**
+		 * @return 全部为整数且未溢出时为{@link Long}，否则为{@link BigDecimal}
+		 */
+		public Number toNumber() {
+			if (overflow == null && scale == 0) {
+				return unscaled;
+			}
+			return toBigDecimal();
+		}
+
+		private Sum addOverflow(BigDecimal value) {
+			overflow = overflow == null ? value : overflow.add(value);
+			return this;
+		}
+
+		private void addScaled(long value, int valueScale) {
+			int target = Math.max(scale, valueScale);
+			long current = rescale(unscaled, target - scale);
+			long addend = rescale(value, target - valueScale);
+			if (current != Long.MIN_VALUE && addend != Long.MIN_VALUE) {
+				long result = current + addend;
+				/*同号相加结果变号即溢出*/
+				if (((current ^ result) & (addend ^ result)) >= 0) {
+					unscaled = result;
+					scale = target;
+					return;
+				}
+			}
+			/*溢出：已累加部分转入BigDecimal，long部分从当前值重新开始*/
+			addOverflow(BigDecimal.valueOf(unscaled, scale));
+			unscaled = value;
+			scale = valueScale;
+		}
+
+		/**
+		 * 乘以10^power，溢出时返回Long.MIN_VALUE
+		 */
+		private static long rescale(long value, int power) {
+			if (value == 0 || power == 0) {
+				return value;
+			}
+			if (power >= POWERS_OF_TEN.length) {
+				return Long.MIN_VALUE;
+			}
+			long factor = POWERS_OF_TEN[power];
+			long result = value * factor;
+			if (Math.multiplyHigh(value, factor) != (result >> 63) || result == Long.MIN_VALUE) {
+				return Long.MIN_VALUE;
+			}
+			return result;
+		}
+
+		private static boolean isNullLiteral(CharSequence value, int from) {
+			return (value.charAt(from) | 0x20) == 'n' && (value.charAt(from + 1) | 0x20) == 'u' && (value.charAt(from + 2) | 0x20) == 'l' && (value.charAt(from + 3) | 0x20) == 'l';
+		}
+
+		@Override
+		public String toString() {
+			return toBigDecimal().toPlainString();
+		}
+	}
+}
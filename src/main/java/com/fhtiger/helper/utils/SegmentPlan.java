@@ -0,0 +1,304 @@
+package com.fhtiger.helper.utils;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * SegmentPlan
+ * 时间区间分段计划，可按序号直接计算任意分界点，分段规则与{@link TimeUtil#dateRange2Segments(Date, int, ChronoUnit, Date)}一致
+ * <p>
+ * 原始实现逐段累加{@code startTime.plus(separate, unit)}，按月计的单位会在短月截断日期且不再恢复(如1月31日之后依次为2月29日、3月29日)，
+ * 此处以"起始日与途经各月天数的最小值"复现该累加结果，因此无需迭代即可定位第k个分界点。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 15:10
+ */
+final class SegmentPlan {
+
+	private final ZoneOffsetTable zone;
+
+	/**
+	 * 起止纪元毫秒(已校正方向)
+	 */
+	private final long start;
+
+	private final long end;
+
+	/**
+	 * 起始本地毫秒
+	 */
+	private final long startLocal;
+
+	/**
+	 * 固定长度单位的步长毫秒，按月计的单位为0
+	 */
+	private final long stepMillis;
+
+	/**
+	 * 按月计单位的步长月数，固定长度单位为0
+	 */
+	private final long stepMonths;
+
+	/**
+	 * 起始日期的年、月、日及当日毫秒(仅按月计单位使用)
+	 */
+	private final long startMonthIndex;
+
+	private final int startDay;
+
+	private final int startMillisOfDay;
+
+	/**
+	 * 分段数量(至少为1)
+	 */
+	private final long count;
+
+	/**
+	 * @param start      起始纪元毫秒
+	 * @param startLocal 起始本地毫秒
+	 * @param separate   分段大小(非0)
+	 * @param unit       分段单位
+	 * @param end        结束纪元毫秒
+	 * @param endLocal   结束本地毫秒
+	 * @param zone       时区偏移表
+	 */
+	private SegmentPlan(long start, long startLocal, int separate, ChronoUnit unit, long end, long endLocal, ZoneOffsetTable zone) {
+		this.zone = zone;
+		this.start = start;
+		this.end = end;
+		this.startLocal = startLocal;
+		long months = monthsOf(unit);
+		if (months == 0) {
+			this.stepMillis = EpochMath.fixedMillis(separate, unit);
+			this.stepMonths = 0;
+			this.startMonthIndex = 0;
+			this.startDay = 0;
+			this.startMillisOfDay = 0;
+			/*满足 startLocal+k*step<endLocal 的最大k*/
+			long span = endLocal - startLocal;
+			this.count = Math.max(1, span <= 0 ? 0 : (span - 1) / stepMillis);
+		} else {
+			this.stepMillis = 0;
+			this.stepMonths = Math.multiplyExact(months, separate);
+			long civil = EpochMath.civil(EpochMath.epochDayOf(startLocal));
+			this.startMonthIndex = EpochMath.year(civil) * 12 + EpochMath.month(civil) - 1;
+			this.startDay = EpochMath.day(civil);
+			this.startMillisOfDay = EpochMath.millisOfDay(startLocal);
+			this.count = Math.max(1, countMonthBoundaries(endLocal));
+		}
+	}
+
+	/**
+	 * 创建分段计划
+	 *
+	 * @param start      起始纪元毫秒
+	 * @param startLocal 起始本地毫秒
+	 * @param separate   分段大小
+	 * @param unit       分段单位(不小于毫秒)
+	 * @param end        结束纪元毫秒
+	 * @param endLocal   结束本地毫秒
+	 * @return {@link SegmentPlan}
+	 */
+	static SegmentPlan of(long start, long startLocal, int separate, ChronoUnit unit, long end, long endLocal) {
+		if (startLocal > endLocal) {
+			return new SegmentPlan(end, endLocal, Math.abs(separate), unit, start, startLocal, ZoneOffsetTable.systemDefault());
+		}
+		return new SegmentPlan(start, startLocal, Math.abs(separate), unit, end, endLocal, ZoneOffsetTable.systemDefault());
+	}
+
+	/**
+	 * @return 分段数量
+	 */
+	long count() {
+		return count;
+	}
+
+	/**
+	 * 第k个分界点(纪元毫秒)，第i段为[bound(i),bound(i+1)]
+	 *
+	 * @param k 序号[0,count]
+	 * @return 纪元毫秒
+	 */
+	long bound(long k) {
+		if (k == 0) {
+			return start;
+		}
+		if (k == count) {
+			/*最后一个段的截止时间直接置换为原始end*/
+			return end;
+		}
+		return zone.toEpoch(boundaryLocal(k));
+	}
+
+	/**
+	 * 全部分界点
+	 *
+	 * @return count+1个纪元毫秒
+	 */
+	long[] bounds() {
+		long[] bounds = new long[Math.toIntExact(count + 1)];
+		for (int k = 0; k < bounds.length; k++) {
+			bounds[k] = bound(k);
+		}
+		return bounds;
+	}
+
+	/**
+	 * 逐段累加k次后的本地毫秒
+	 */
+	private long boundaryLocal(long k) {
+		if (stepMonths == 0) {
+			return startLocal + k * stepMillis;
+		}
+		long monthIndex = startMonthIndex + k * stepMonths;
+		long year = Math.floorDiv(monthIndex, 12);
+		int month = Math.floorMod(monthIndex, 12) + 1;
+		return EpochMath.epochDay(year, month, clampedDay(k)) * EpochMath.MILLIS_PER_DAY + startMillisOfDay;
+	}
+
+	/**
+	 * 累加k次后的日：起始日与第1至第k次途经月份天数的最小值
+	 */
+	private int clampedDay(long k) {
+		int day = startDay;
+		/*月份序列以12为周期，只有闰年2月需要继续向后查找*/
+		boolean leapFebruary = false;
+		for (long j = 1; j <= k && day > 28; j++) {
+			if (j > 12 && !leapFebruary) {
+				break;
+			}
+			long monthIndex = startMonthIndex + j * stepMonths;
+			int month = Math.floorMod(monthIndex, 12) + 1;
+			int length = EpochMath.monthLength(Math.floorDiv(monthIndex, 12), month);
+			if (month == 2 && length == 29) {
+				leapFebruary = true;
+			}
+			day = Math.min(day, length);
+		}
+		return day;
+	}
+
+	/**
+	 * 满足 boundaryLocal(k)&lt;endLocal 的k(k&gt;=1)的个数
+	 */
+	private long countMonthBoundaries(long endLocal) {
+		long endCivil = EpochMath.civil(EpochMath.epochDayOf(endLocal));
+		long endMonthIndex = EpochMath.year(endCivil) * 12 + EpochMath.month(endCivil) - 1;
+		/*先按月数估算，再逐一校正*/
+		long k = Math.max(0, (endMonthIndex - startMonthIndex) / stepMonths);
+		while (k > 0 && boundaryLocal(k) >= endLocal) {
+			k--;
+		}
+		while (boundaryLocal(k + 1) < endLocal) {
+			k++;
+		}
+		return k;
+	}
+
+	private static long monthsOf(ChronoUnit unit) {
+		switch (unit) {
+		case MONTHS:
+			return 1;
+		case YEARS:
+			return 12;
+		case DECADES:
+			return 120;
+		case CENTURIES:
+			return 1200;
+		case MILLENNIA:
+			return 12000;
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * 按序号惰性生成分段的{@link Spliterator}，拆分时直接对序号区间二分
+	 */
+	static final class DateSegments implements Spliterator<Date[]> {
+
+		private final SegmentPlan plan;
+
+		/**
+		 * 原始起止对象，首段起点与末段终点直接使用
+		 */
+		private final Date first;
+
+		private final Date last;
+
+		private long index;
+
+		private final long fence;
+
+		DateSegments(SegmentPlan plan, Date first, Date last) {
+			this(plan, first, last, 0, plan.count());
+		}
+
+		private DateSegments(SegmentPlan plan, Date first, Date last, long index, long fence) {
+			this.plan = plan;
+			this.first = first;
+			this.last = last;
+			this.index = index;
+			this.fence = fence;
+		}
+
+		private Date boundDate(long k) {
+			if (k == 0) {
+				return first;
+			}
+			if (k == plan.count()) {
+				return last;
+			}
+			return new Date(plan.bound(k));
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Date[]> action) {
+			if (index >= fence) {
+				return false;
+			}
+			long k = index++;
+			action.accept(new Date[] { boundDate(k), boundDate(k + 1) });
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Date[]> action) {
+			long k = index;
+			index = fence;
+			if (k >= fence) {
+				return;
+			}
+			/*相邻段共用分界点对象，与列表版本一致*/
+			Date bound = boundDate(k);
+			for (; k < fence; k++) {
+				Date next = boundDate(k + 1);
+				action.accept(new Date[] { bound, next });
+				bound = next;
+			}
+		}
+
+		@Override
+		public Spliterator<Date[]> trySplit() {
+			long mid = (index + fence) >>> 1;
+			if (mid <= index) {
+				return null;
+			}
+			DateSegments prefix = new DateSegments(plan, first, last, index, mid);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+		}
+	}
+}
@@ -0,0 +1,277 @@
+package com.fhtiger.helper.utils;
+
+import com.fhtiger.helper.utils.helpful.AssertDetect;
+import com.fhtiger.helper.utils.helpful.HelpfulExecutors;
+import com.fhtiger.helper.utils.helpful.SimpleRuntimeException;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * SegmentRunner
+ * 在线程池上并发处理时间分段(如按分段查询报表)，并发数有上限，结果按分段顺序返回
+ * <p>
+ * 每个工作任务依次领取下一个分段序号执行，任一分段失败后其余分段不再领取，仍在执行的工作任务被中断；
+ * 等待全部工作任务结束后，失败原因包装为{@link SimpleRuntimeException}抛出；分段抛出{@link Error}时同样停止，等待结束后原样抛出该Error。
+ * <p>
+ * e.g. <br>SegmentRunner.reduce(TimeUtil.dateRange2Segments(start, 1, ChronoUnit.DAYS, end), seg -&gt; dao.count(seg[0], seg[1]), 0L, Long::sum, executor, 8);
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 15:40
+ * @see TimeUtil#dateRange2Segments(Date, int, ChronoUnit, Date)
+ */
+@SuppressWarnings({ "unused" })
+
+public final class SegmentRunner {
+
+	private SegmentRunner() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	/**
+	 * 对时间区间分段后并发处理各分段
+	 *
+	 * @param start       起始时间
+	 * @param separate    分段大小.
+	 * @param unit        分段单位
+	 * @param end         结束时间
+	 * @param mapper      分段处理
+	 * @param executor    线程池，为null时每次使用虚拟线程({@link HelpfulExecutors#newVirtualThreadPerTaskExecutor(String)})
+	 * @param parallelism 最大并发数
+	 * @param <R>         结果类型
+	 * @return 按分段顺序排列的结果
+	 */
+	public static <R> List<R> map(Date start, int separate, ChronoUnit unit, Date end, Function<? super Date[], ? extends R> mapper, ExecutorService executor, int parallelism) {
+		return map(TimeUtil.dateRange2Segments(start, separate, unit, end), mapper, executor, parallelism);
+	}
+
+	/**
+	 * 并发处理各分段
+	 *
+	 * @param segments    分段
+	 * @param mapper      分段处理
+	 * @param executor    线程池，为null时每次使用虚拟线程({@link HelpfulExecutors#newVirtualThreadPerTaskExecutor(String)})
+	 * @param parallelism 最大并发数
+	 * @param <S>         分段类型
+	 * @param <R>         结果类型
+	 * @return 按分段顺序排列的结果
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S, R> List<R> map(List<? extends S> segments, Function<? super S, ? extends R> mapper, ExecutorService executor, int parallelism) {
+		return (List<R>) Arrays.asList(run(segments, mapper, executor, parallelism));
+	}
+
+	/**
+	 * 并发处理各分段，并按分段顺序合并结果
+	 *
+	 * @param segments    分段
+	 * @param mapper      分段处理
+	 * @param identity    合并初始值
+	 * @param combiner    合并方法
+	 * @param executor    线程池，为null时每次使用虚拟线程({@link HelpfulExecutors#newVirtualThreadPerTaskExecutor(String)})
+	 * @param parallelism 最大并发数
+	 * @param <S>         分段类型
+	 * @param <R>         结果类型
+	 * @return 合并结果
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S, R> R reduce(List<? extends S> segments, Function<? super S, ? extends R> mapper, R identity, BinaryOperator<R> combiner, ExecutorService executor, int parallelism) {
+		AssertDetect.notNull(new Object[] { combiner }, "合并方法不能为空!");
+		R result = identity;
+		for (Object value : run(segments, mapper, executor, parallelism)) {
+			result = combiner.apply(result, (R) value);
+		}
+		return result;
+	}
+
+	private static <S> Object[] run(List<? extends S> segments, Function<? super S, ?> mapper, ExecutorService executor, int parallelism) {
+		AssertDetect.notNull(new Object[] { segments, mapper }, "分段不能为空!", "分段处理不能为空!");
+		AssertDetect.test(parallelism > 0, "并发数必须大于0");
+		int size = segments.size();
+		Object[] results = new Object[size];
+		if (size == 0) {
+			return results;
+		}
+		boolean ownExecutor = executor == null;
+		ExecutorService service = ownExecutor ? HelpfulExecutors.newVirtualThreadPerTaskExecutor("segment-runner-") : executor;
+		Batch<S> batch = new Batch<>(segments, mapper, results, Math.min(parallelism, size));
+		try {
+			batch.start(service);
+			batch.await();
+		} finally {
+			if (ownExecutor) {
+				service.shutdown();
+			}
+		}
+		Error error = batch.error.get();
+		if (error != null) {
+			throw error;
+		}
+		Failure first = batch.failure.get();
+		if (first != null) {
+			throw new SimpleRuntimeException("第" + (first.index() + 1) + "个分段执行失败", first.cause());
+		}
+		return results;
+	}
+
+	/**
+	 * 一次并发处理：工作任务依次领取分段；失败或调用方中断时中断仍在执行的工作任务，并等待全部工作任务结束
+	 */
+	private static final class Batch<S> {
+
+		private final List<? extends S> segments;
+
+		private final Function<? super S, ?> mapper;
+
+		private final Object[] results;
+
+		private final Worker[] workers;
+
+		private final CountDownLatch finished;
+
+		private final AtomicInteger next = new AtomicInteger();
+
+		private final AtomicReference<Failure> failure = new AtomicReference<>();
+
+		/**
+		 * 分段抛出的第一个{@link Error}，不视为分段失败，优先原样抛出
+		 */
+		private final AtomicReference<Error> error = new AtomicReference<>();
+
+		private volatile boolean stopped;
+
+		Batch(List<? extends S> segments, Function<? super S, ?> mapper, Object[] results, int workers) {
+			this.segments = segments;
+			this.mapper = mapper;
+			this.results = results;
+			this.workers = new Worker[workers];
+			this.finished = new CountDownLatch(workers);
+			for (int w = 0; w < workers; w++) {
+				this.workers[w] = new Worker(this);
+			}
+		}
+
+		void start(ExecutorService service) {
+			for (int w = 0; w < workers.length; w++) {
+				try {
+					service.execute(workers[w]);
+				} catch (RuntimeException e) {
+					/*提交被拒绝：已提交的工作任务停止后再抛出*/
+					stop();
+					for (int rest = w; rest < workers.length; rest++) {
+						finished.countDown();
+					}
+					awaitUninterruptibly();
+					throw e;
+				}
+			}
+		}
+
+		void await() {
+			try {
+				finished.await();
+			} catch (InterruptedException e) {
+				stop();
+				awaitUninterruptibly();
+				Thread.currentThread().interrupt();
+				throw new SimpleRuntimeException("分段执行被中断", e);
+			}
+		}
+
+		private void awaitUninterruptibly() {
+			boolean interrupted = false;
+			while (true) {
+				try {
+					finished.await();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		void stop() {
+			stopped = true;
+			for (Worker worker : workers) {
+				worker.interrupt();
+			}
+		}
+
+		void work() {
+			int size = results.length;
+			int index;
+			while (!stopped && (index = next.getAndIncrement()) < size) {
+				try {
+					results[index] = mapper.apply(segments.get(index));
+				} catch (Error e) {
+					if (error.compareAndSet(null, e)) {
+						stop();
+					}
+					return;
+				} catch (Throwable e) {
+					/*RuntimeException(及未声明而抛出的受检异常)为分段失败，仅记录第一个，其余工作任务随后退出*/
+					if (failure.compareAndSet(null, new Failure(index, e))) {
+						stop();
+					}
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 工作任务，记录执行线程以便只在其执行期间中断
+	 */
+	private static final class Worker implements Runnable {
+
+		private final Batch<?> batch;
+
+		private Thread thread;
+
+		private boolean interrupted;
+
+		Worker(Batch<?> batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				thread = Thread.currentThread();
+			}
+			try {
+				batch.work();
+			} finally {
+				synchronized (this) {
+					thread = null;
+					if (interrupted) {
+						/*清除由本批次发出的中断，不影响线程池中的后续任务*/
+						Thread.interrupted();
+					}
+				}
+				batch.finished.countDown();
+			}
+		}
+
+		synchronized void interrupt() {
+			if (thread != null && thread != Thread.currentThread()) {
+				interrupted = true;
+				thread.interrupt();
+			}
+		}
+	}
+
+	private record Failure(int index, Throwable cause) {
+	}
+}
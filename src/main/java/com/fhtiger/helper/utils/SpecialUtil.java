@@ -1,16 +1,20 @@
 package com.fhtiger.helper.utils;
 
+import com.fhtiger.helper.utils.beans.BeanMapper;
+import com.fhtiger.helper.utils.beans.BeanPlan;
+import com.fhtiger.helper.utils.beans.DeepCloner;
+import com.fhtiger.helper.utils.beans.ObjectDumper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.beans.BeanInfo;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.io.*;
-import java.lang.reflect.*;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -39,12 +43,79 @@ public final class SpecialUtil {
 	 * @since 2017年12月9日 上午9:40:11
 	 */
 	public static void writeFile(String filePath, String sets) throws IOException {
-		FileWriter fw = new FileWriter(filePath);
-		PrintWriter out = new PrintWriter(fw);
-		out.write(sets);
-		out.println();
-		fw.close();
-		out.close();
+		try (PrintWriter out = new PrintWriter(new FileWriter(filePath))) {
+			out.write(sets);
+			out.println();
+			if (out.checkError()) {
+				throw new IOException("写入文件失败: " + filePath);
+			}
+		}
+	}
+
+	/**
+	 * 以指定字符集写文件(覆盖),内容分块编码后写出,不生成完整的字节数组
+	 *
+	 * @param path 文件
+	 * @param content 内容
+	 * @param charset 字符集
+	 * @return 写入字节数
+	 * @throws IOException -
+	 */
+	public static long writeFile(Path path, CharSequence content, Charset charset) throws IOException {
+		return ChannelWriter.write(path, content, charset, false);
+	}
+
+	/**
+	 * 以指定字符集追加写文件,文件不存在时创建
+	 *
+	 * @param path 文件
+	 * @param content 内容
+	 * @param charset 字符集
+	 * @return 写入字节数
+	 * @throws IOException -
+	 */
+	public static long appendFile(Path path, CharSequence content, Charset charset) throws IOException {
+		return ChannelWriter.write(path, content, charset, true);
+	}
+
+	/**
+	 * 原子写文件:先写入同目录下的临时文件并落盘,再重命名替换目标文件,已存在的目标文件权限保持不变
+	 *
+	 * @param path 文件
+	 * @param content 内容
+	 * @param charset 字符集
+	 * @return 写入字节数
+	 * @throws IOException -
+	 */
+	public static long writeFileAtomic(Path path, CharSequence content, Charset charset) throws IOException {
+		return ChannelWriter.writeAtomic(path, content, charset);
+	}
+
+	/**
+	 * 依次写入多个片段,小片段编码到同一缓冲后以一次聚集写出
+	 *
+	 * @param path 文件
+	 * @param fragments 片段
+	 * @param charset 字符集
+	 * @param append 是否追加
+	 * @return 写入字节数
+	 * @throws IOException -
+	 */
+	public static long writeFile(Path path, List<? extends CharSequence> fragments, Charset charset, boolean append) throws IOException {
+		return ChannelWriter.write(path, fragments, charset, append);
+	}
+
+	/**
+	 * 以聚集写依次写入多个字节片段
+	 *
+	 * @param path 文件
+	 * @param fragments 片段,写入后位置移至末尾
+	 * @param append 是否追加
+	 * @return 写入字节数
+	 * @throws IOException -
+	 */
+	public static long writeFile(Path path, ByteBuffer[] fragments, boolean append) throws IOException {
+		return ChannelWriter.write(path, fragments, append);
 	}
 
 	private static final String[] BIG_NUMBER = new String[] { "一", "二", "三", "四", "五", "六", "七", "八", "九", "十" };
@@ -72,62 +143,31 @@ public final class SpecialUtil {
 	 * @author Chivenh
 	 * @since 2017年4月21日 下午1:11:53
 	 */
-	@SuppressWarnings({ "rawtypes" })
 	public static String toString(Object obj) {
-		ArrayList<Object> visited = new ArrayList<>();
-		if (obj == null) {
-			return null;
-		}
-		if (visited.contains(obj)) {
-			return "...";
-		}
-		visited.add(obj);
-		Class c1 = obj.getClass();
-		if (c1 == String.class) {
-			return (String) obj;
-		}
-		if (c1.isArray()) {
-			StringBuilder r = new StringBuilder(c1.getComponentType() + "[]{");
-			for (int i = 0; i < Array.getLength(obj); i++) {
-				if (i > 0) {
-					r.append(",");
-				}
-				Object val = Array.get(obj, i);
-				if (c1.getComponentType().isPrimitive()) {r.append(val);}
-				else {r.append(toString(val));}
-			}
-			return r + "}";
-		}
-		StringBuilder r = new StringBuilder(c1.getName());
-		r.append("{");
-		do {
-			r.append("[");
-			Field[] fields = c1.getDeclaredFields();
-			AccessibleObject.setAccessible(fields, true);
-			for (Field f : fields) {
-				if (!Modifier.isStatic(f.getModifiers())) {
-					if (!r.toString().endsWith("[")) {
-						r.append(",\n");
-					}
-					r.append(f.getName()).append(" = ");
-					try {
-						Class t = f.getType();
-						Object val = f.get(obj);
-						if (t.isPrimitive()) {
-							r.append(val);
-						} else {
-							r.append(toString(val));
-						}
-					} catch (Exception e) {
-						logger.error("TimeUtil error: ",e);
-					}
-				}
-			}
-			r.append("]");
-			c1 = c1.getSuperclass();
-		} while (c1 != null);
-		r.append("}");
-		return r.toString().replaceAll("\\[]", "");
+		return obj == null ? null : ObjectDumper.dump(obj);
+	}
+
+	/**
+	 * 通用toString()方法,限制展开深度与输出长度,适用于调试日志中的大型对象
+	 * @param obj 对象
+	 * @param maxDepth 最大展开深度
+	 * @param maxLength 最大输出字符数
+	 * @return String
+	 */
+	public static String toString(Object obj, int maxDepth, int maxLength) {
+		return obj == null ? null : ObjectDumper.dump(obj, maxDepth, maxLength);
+	}
+
+	/**
+	 * 通用toString()方法,直接写入 {@link Appendable}
+	 * @param obj 对象
+	 * @param out 输出目标
+	 * @param maxDepth 最大展开深度
+	 * @param maxLength 最大输出字符数
+	 * @throws IOException 写入失败时
+	 */
+	public static void toString(Object obj, Appendable out, int maxDepth, int maxLength) throws IOException {
+		ObjectDumper.dump(obj, out, maxDepth, maxLength);
 	}
 
 	/**
@@ -149,14 +189,48 @@ public final class SpecialUtil {
 	 * @return Integer
 	 */
 	public static int getInt(Object o, int... v) {
-		int t;
+		return getInt(o, v.length < 1 ? 0 : v[0]);
+	}
+
+	/**
+	 * 得到整数,为空时取0
+	 *
+	 * @param o 原始值
+	 * @return int
+	 */
+	public static int getInt(Object o) {
+		return getInt(o, 0);
+	}
+
+	/**
+	 * 得到整数
+	 *
+	 * @param o 原始值
+	 * @param defaultValue 为空时的默认值
+	 * @return int
+	 */
+	public static int getInt(Object o, int defaultValue) {
+		if (o == null) {
+			return defaultValue;
+		}
+		if (o instanceof Integer || o instanceof Short || o instanceof Byte) {
+			return ((Number) o).intValue();
+		}
+		CharSequence cs = o instanceof CharSequence ? (CharSequence) o : o.toString();
+		int from = NumberParser.start(cs);
+		int to = NumberParser.end(cs, from);
+		if (from == to) {
+			return defaultValue;
+		}
+		long value = NumberParser.parseLong(cs, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		if (value != NumberParser.FAILED) {
+			return (int) value;
+		}
 		try {
-			o = o == null || o.toString().trim().isEmpty() ? (v.length < 1 ? 0 : v[0]) : o.toString().trim();
-			t = Integer.parseInt(o.toString());
+			return Integer.parseInt(cs.subSequence(from, to).toString());
 		} catch (Exception e) {
 			throw new RuntimeException(e.getMessage());
 		}
-		return t;
 	}
 
 	/**
@@ -166,12 +240,27 @@ public final class SpecialUtil {
 	 * @return BigDecimal
 	 */
 	public static BigDecimal getBigDecimal(Object o) {
+		if (o == null) {
+			return null;
+		}
+		if (o instanceof BigDecimal) {
+			return (BigDecimal) o;
+		}
+		if (o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte) {
+			return BigDecimal.valueOf(((Number) o).longValue());
+		}
+		CharSequence cs = o instanceof CharSequence ? (CharSequence) o : o.toString();
+		int from = NumberParser.start(cs);
+		int to = NumberParser.end(cs, from);
+		if (from == to) {
+			return null;
+		}
+		BigDecimal value = NumberParser.parseBigDecimal(cs, from, to);
+		if (value != null) {
+			return value;
+		}
 		try {
-			if (o == null || o.toString().trim().isEmpty()) {
-				return null;
-			} else {
-				return new BigDecimal(getStr(o));
-			}
+			return new BigDecimal(cs.subSequence(from, to).toString());
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -185,14 +274,48 @@ public final class SpecialUtil {
 	 * @return Long
 	 */
 	public static long getLong(Object o, int... v) {
-		long t = 0L;
+		return getLong(o, v.length < 1 ? 0L : v[0]);
+	}
+
+	/**
+	 * 得到长整数,为空时取0
+	 *
+	 * @param o 原始值
+	 * @return long
+	 */
+	public static long getLong(Object o) {
+		return getLong(o, 0L);
+	}
+
+	/**
+	 * 得到长整数
+	 *
+	 * @param o 原始值
+	 * @param defaultValue 为空时的默认值
+	 * @return long
+	 */
+	public static long getLong(Object o, long defaultValue) {
+		if (o == null) {
+			return defaultValue;
+		}
+		if (o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte) {
+			return ((Number) o).longValue();
+		}
+		CharSequence cs = o instanceof CharSequence ? (CharSequence) o : o.toString();
+		int from = NumberParser.start(cs);
+		int to = NumberParser.end(cs, from);
+		if (from == to) {
+			return defaultValue;
+		}
+		long value = NumberParser.parseLong(cs, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+		if (value != NumberParser.FAILED) {
+			return value;
+		}
 		try {
-			o = o == null || o.toString().trim().isEmpty() ? (v.length < 1 ? 0 : v[0]) : o.toString().trim();
-			t = Long.parseLong(o.toString());
+			return Long.parseLong(cs.subSequence(from, to).toString());
 		} catch (Exception e) {
 			throw new RuntimeException(e.getMessage());
 		}
-		return t;
 	}
 
 	/**
@@ -203,14 +326,48 @@ public final class SpecialUtil {
 	 * @return Double
 	 */
 	public static double getDouble(Object o, double... v) {
-		double t;
+		return getDouble(o, v.length < 1 ? 0.0 : v[0]);
+	}
+
+	/**
+	 * 得到浮点数,为空时取0
+	 *
+	 * @param o 原始值
+	 * @return double
+	 */
+	public static double getDouble(Object o) {
+		return getDouble(o, 0.0);
+	}
+
+	/**
+	 * 得到浮点数.
+	 *
+	 * @param o 原始值
+	 * @param defaultValue 为空时的默认值
+	 * @return double
+	 */
+	public static double getDouble(Object o, double defaultValue) {
+		if (o == null) {
+			return defaultValue;
+		}
+		if (o instanceof Double || o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte) {
+			return ((Number) o).doubleValue();
+		}
+		CharSequence cs = o instanceof CharSequence ? (CharSequence) o : o.toString();
+		int from = NumberParser.start(cs);
+		int to = NumberParser.end(cs, from);
+		if (from == to) {
+			return defaultValue;
+		}
+		double value = NumberParser.parseDouble(cs, from, to);
+		if (!Double.isNaN(value)) {
+			return value;
+		}
 		try {
-			o = o == null || o.toString().trim().isEmpty() ? (v.length < 1 ? 0.0 : v[0]) : o.toString().trim();
-			t = Double.parseDouble(o.toString());
+			return Double.parseDouble(cs.subSequence(from, to).toString());
 		} catch (Exception e) {
 			throw new RuntimeException(e.getMessage());
 		}
-		return t;
 	}
 
 	/**
@@ -235,7 +392,9 @@ public final class SpecialUtil {
 	 * @return 和
 	 * @author Chivenh
 	 * @since 2020-04-26 15:42
+	 * @deprecated 实例方法无法调用且整数求和会溢出, 使用 {@link NumericAggregator#sum(CharSequence, CharSequence...)}
 	 */
+	@Deprecated
 	public Object getSum(String v1, String... v2) {
 		String a1 = v1;
 		String[] a2={};
@@ -381,15 +540,31 @@ public final class SpecialUtil {
 	}
 
 	/**
-	 * 调用序列化方法，深克隆一个对象副本
+	 * 深克隆一个对象副本.
+	 * 以 {@link DeepCloner} 按字段结构复制，无法复制时退化为序列化方法
 	 * @param preObj 前置对象
 	 * @return 结果对象
 	 * @author Chivenh
 	 * @since 2020-04-26 15:30
 	 * @param <T> 参数类型
 	 */
-	@SuppressWarnings("unchecked")
 	public static <T> T deepClone(T preObj) {
+		try {
+			return DeepCloner.copy(preObj);
+		} catch (RuntimeException e) {
+			logger.debug("DeepCloner fallback to serialization: {}", e.getMessage());
+			return serialClone(preObj);
+		}
+	}
+
+	/**
+	 * 调用序列化方法，深克隆一个对象副本
+	 * @param preObj 前置对象
+	 * @return 结果对象
+	 * @param <T> 参数类型
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T serialClone(T preObj) {
 		Object nowObj = null;
 		Closeable[] streams = new Closeable[4];
 		try {
@@ -429,33 +604,13 @@ public final class SpecialUtil {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <T> T cloneByProps(T pre) {
-		Class<?> type = pre.getClass();
-		Object cur;
+		Class<T> type = (Class<T>) pre.getClass();
 		try {
-			cur = type.getDeclaredConstructor().newInstance();
-			BeanInfo beanInfo = Introspector.getBeanInfo(type);
-			/*获取属性数组*/
-			PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-			for (PropertyDescriptor pd : propertyDescriptors) {
-				/*获取属性名*/
-				String propertyName = pd.getName();
-				if (!"class".equalsIgnoreCase(propertyName)) {
-					/*得到读属性方法(get...())*/
-					Method get = pd.getReadMethod();
-					Method set = pd.getWriteMethod();
-					if (get != null) {
-						/*获取属性值*/
-						Object value = get.invoke(pre);
-						if (value != null && set != null) {
-							set.invoke(cur, value);
-						}
-					}
-				}
-			}
+			BeanMapper<T> mapper = BeanMapper.of(type);
+			return mapper.copy(pre, mapper.newInstance());
 		} catch (Exception e) {
 			throw new RuntimeException(type.getName() + " 没有可用构造器,克隆对象失败!" + e.getMessage());
 		}
-		return (T)cur;
 	}
 
 	/**
@@ -468,35 +623,17 @@ public final class SpecialUtil {
 	 * @since 2020-04-26 15:28
 	 * @param <T> 结果类型
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> T copyProps(T pre, T cur) {
 		if (pre.getClass() != cur.getClass()) {
 			return cur;
 		}
-		Class<?> type = pre.getClass();
+		Class<T> type = (Class<T>) pre.getClass();
 		try {
-			BeanInfo beanInfo = Introspector.getBeanInfo(type);
-			/*获取属性数组*/
-			PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-			for (PropertyDescriptor pd : propertyDescriptors) {
-				/*获取属性名*/
-				String propertyName = pd.getName();
-				if (!"class".equalsIgnoreCase(propertyName)) {
-					/*得到读属性方法(get...())*/
-					Method get = pd.getReadMethod();
-					Method set = pd.getWriteMethod();
-					if (get != null) {
-						/*获取属性值*/
-						Object value = get.invoke(pre);
-						if (value != null && set != null) {
-							set.invoke(cur, value);
-						}
-					}
-				}
-			}
+			return BeanMapper.of(type).copy(pre, cur);
 		} catch (Exception e) {
 			throw new RuntimeException(type.getName() + " 没有可用构造器,克隆对象失败!" + e.getMessage());
 		}
-		return cur;
 	}
 
 	/**
@@ -507,33 +644,36 @@ public final class SpecialUtil {
 	 * @author Chivenh
 	 * @since 2020-04-26 15:27
 	 */
+	@SuppressWarnings("unchecked")
 	public static Map<String, Object> objToMap(Object obj) {
-		Map<String, Object> map = new HashMap<>(0);
 		try {
-			Class<?> type = obj.getClass();
-			BeanInfo beanInfo = Introspector.getBeanInfo(type);
-			/*获取属性数组*/
-			PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-			for (PropertyDescriptor pd : propertyDescriptors) {
-				/*获取属性名*/
-				String propertyName = pd.getName();
-				if (!"class".equalsIgnoreCase(propertyName)) {
-					/*得到读属性方法(get...())*/
-					Method method = pd.getReadMethod();
-					if(method==null){
-						continue;
-					}
-					/*获取属性值*/
-					Object o = method.invoke(obj);
-					/*填充进map*/
-					map.put(propertyName, o);
-				}
-			}
+			return BeanMapper.of((Class<Object>) obj.getClass()).toMap(obj);
 		} catch (Exception e) {
 			throw new RuntimeException(e.getMessage());
 		}
+	}
 
-		return map;
+	/**
+	 * 对象的只读Map视图，不复制属性值，仅在取值时调用读方法.
+	 * 只读取少数属性时代替 #objToMap(Object)
+	 *
+	 * @param obj 对象
+	 * @return {@link Map} 对应对象属性名和值
+	 */
+	public static Map<String, Object> objToMapView(Object obj) {
+		return objToMapView(obj, false);
+	}
+
+	/**
+	 * 对象的Map视图，不复制属性值，仅在取值时调用读方法
+	 *
+	 * @param obj          对象
+	 * @param writeThrough 是否允许 put 调用对应属性的写方法
+	 * @return {@link Map} 对应对象属性名和值
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> objToMapView(Object obj, boolean writeThrough) {
+		return BeanPlan.of((Class<Object>) obj.getClass()).view(obj, writeThrough);
 	}
 
 	/**
@@ -547,31 +687,68 @@ public final class SpecialUtil {
 	 * @param <T> 结果类型
 	 */
 	public static <T> T mapToObj(Class<T> type, Map<String, Object> map) {
-		T newObj;
 		try {
-			newObj = type.getDeclaredConstructor().newInstance();
-			BeanInfo beanInfo = Introspector.getBeanInfo(type);
-			/*获取属性数组*/
-			PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-			for (PropertyDescriptor pd : propertyDescriptors) {
-				/*获取属性名*/
-				String propertyName = pd.getName();
-				if (!"class".equalsIgnoreCase(propertyName)&&map.containsKey(propertyName)) {
-					/*得到写属性方法(set...())*/
-					Method method = pd.getWriteMethod();
-					if(method==null){
-						continue;
-					}
-					/* 从map中获取对应属性值*/
-					Object value = map.get(propertyName);
-					/* 写入属性值.*/
-					method.invoke(newObj, value);
-				}
+			return BeanMapper.of(type).fromMap(map);
+		} catch (Exception e) {
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+
+	/**
+	 * 批量将 {@link Map} 转为对应对象,规则同 #mapToObj(Class, Map)
+	 *
+	 * @param type Class
+	 * @param rows 数据行
+	 * @return 结果对象列表
+	 * @param <T> 结果类型
+	 */
+	public static <T> List<T> mapToObjList(Class<T> type, List<? extends Map<String, ?>> rows) {
+		return mapToObjList(type, rows, false, false);
+	}
+
+	/**
+	 * 批量将 {@link Map} 转为对应对象,同一批次内每个键只解析一次
+	 *
+	 * @param type     Class
+	 * @param rows     数据行
+	 * @param hump     键是否为下划线形式(user_name),按 {@link StringValueUtil#humpNonFirst(String)} 转为属性名
+	 * @param parallel 行数较多时是否并行转换
+	 * @return 结果对象列表
+	 * @param <T> 结果类型
+	 */
+	public static <T> List<T> mapToObjList(Class<T> type, List<? extends Map<String, ?>> rows, boolean hump, boolean parallel) {
+		try {
+			return BeanMapper.of(type).fromMaps(rows, hump ? StringValueUtil::humpNonFirst : null, parallel);
+		} catch (Exception e) {
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+
+	/**
+	 * 批量将对象转为 {@link Map},规则同 #objToMap(Object);为null的元素对应位置为null
+	 *
+	 * @param list     对象列表
+	 * @param parallel 元素较多时是否并行转换
+	 * @return Map列表
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<Map<String, Object>> objToMapList(List<?> list, boolean parallel) {
+		/*按首个非null元素的类型取转换器，其余类型的元素由转换器按各自的类处理*/
+		Object first = null;
+		for (Object item : list) {
+			if (item != null) {
+				first = item;
+				break;
 			}
+		}
+		if (first == null) {
+			return new ArrayList<>(Collections.nCopies(list.size(), null));
+		}
+		try {
+			return BeanMapper.of((Class<Object>) first.getClass()).toMaps(list, parallel);
 		} catch (Exception e) {
 			throw new RuntimeException(e.getMessage());
 		}
-		return newObj;
 	}
 
 	/**
@@ -1,11 +1,13 @@
 package com.fhtiger.helper.utils;
 
 import com.fhtiger.helper.utils.adapter.SplitAdapter;
+import com.fhtiger.helper.utils.helpful.BoundedCache;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * StringValueUtil
@@ -105,8 +107,14 @@ public final class StringValueUtil {
 		return value;
 	}
 
+	/**
+	 * 正则中有特殊含义的字符，分隔符不含这些字符时按字面分隔(与{@link String#split(String)}的快速路径一致)
+	 */
+	private static final String REGEX_META = ".$|()[{^?*+\\";
+
 	/**
 	 * 分隔成指定结果集
+	 * 分隔符按正则解析；不含正则特殊字符时按字面扫描，结果与{@link String#split(String)}一致
 	 *
 	 * @param value     原始字符串
 	 * @param splitChar 分隔字符
@@ -117,6 +125,10 @@ public final class StringValueUtil {
 	public static <T> List<T> splitTo(final String value, final String splitChar, final Function<String, T> convert) {
 
 		if (SpecialUtil.isNotEmpty(value)) {
+			if (isLiteral(splitChar)) {
+				return literal(value, splitChar, convert, null);
+			}
+
 			String[] values = value.split(splitChar);
 
 			List<T> results = new ArrayList<>(values.length);
@@ -133,6 +145,7 @@ public final class StringValueUtil {
 
 	/**
 	 * 分隔成指定结果集
+	 * 分隔符按正则解析；不含正则特殊字符时按字面扫描，结果与{@link String#split(String)}一致
 	 *
 	 * @param value     原始字符串
 	 * @param splitChar 分隔字符
@@ -143,6 +156,10 @@ public final class StringValueUtil {
 	public static <T> List<T> splitBiTo(final String value, final String splitChar, final BiFunction<Integer, String, T> convert) {
 
 		if (SpecialUtil.isNotEmpty(value)) {
+			if (isLiteral(splitChar)) {
+				return literal(value, splitChar, null, convert);
+			}
+
 			String[] values = value.split(splitChar);
 			int length = values.length;
 
@@ -158,6 +175,258 @@ public final class StringValueUtil {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * 按字面分隔符分隔成指定结果集，"."、"|"等字符不作为正则解析
+	 * 以indexOf逐段扫描，每段直接交给转换器，不生成中间数组；
+	 * 空段与尾部空段的处理同{@link String#split(String)}(尾部空段舍弃)
+	 *
+	 * @param value     原始字符串
+	 * @param delimiter 分隔符，为空时整体作为一项
+	 * @param convert   转换器
+	 * @param <T>       指定类型
+	 * @return List&lt;T&gt;
+	 */
+	public static <T> List<T> splitLiteralTo(final String value, final String delimiter, final Function<String, T> convert) {
+		if (SpecialUtil.isNotEmpty(value)) {
+			return literal(value, delimiter, convert, null);
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * 按字面分隔符分隔成指定结果集，规则同 #splitLiteralTo(String, String, Function)
+	 *
+	 * @param value     原始字符串
+	 * @param delimiter 分隔符，为空时整体作为一项
+	 * @param convert   转换器(参数为段序号及段内容)
+	 * @param <T>       指定类型
+	 * @return List&lt;T&gt;
+	 */
+	public static <T> List<T> splitLiteralBiTo(final String value, final String delimiter, final BiFunction<Integer, String, T> convert) {
+		if (SpecialUtil.isNotEmpty(value)) {
+			return literal(value, delimiter, null, convert);
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * 按字面分隔符分隔为Long结果集
+	 *
+	 * @param value     原始字符串
+	 * @param delimiter 分隔符
+	 * @return List&lt;Long&gt;
+	 */
+	public static List<Long> splitLiteralToLong(final String value, final String delimiter) {
+		return splitLiteralTo(value, delimiter, Long::parseLong);
+	}
+
+	/**
+	 * 按字面分隔符惰性分隔，规则同 #splitLiteralTo(String, String, Function)，只在消费时向后扫描.
+	 * 需要在创建字符串之前过滤时使用 {@link LiteralTokenizer#slices(CharSequence, String)}
+	 *
+	 * @param value     原始字符串
+	 * @param delimiter 分隔符
+	 * @return Stream&lt;String&gt;
+	 */
+	public static Stream<String> splitLazy(final String value, final String delimiter) {
+		if (SpecialUtil.isNotEmpty(value)) {
+			return LiteralTokenizer.stream(value, delimiter);
+		}
+		return Stream.empty();
+	}
+
+	/**
+	 * 以`,`分隔为long数组
+	 *
+	 * @param value 原始字符串
+	 * @return long[]
+	 */
+	public static long[] splitToLongArray(final String value) {
+		return splitToLongArray(value, ",");
+	}
+
+	/**
+	 * 按字面分隔符分隔为long数组
+	 * 各段直接在原字符串上解析，不截取子串也不装箱；分段与解析规则同 #splitLiteralToLong(String, String)
+	 *
+	 * @param value     原始字符串
+	 * @param delimiter 分隔符
+	 * @return long[]
+	 * @throws NumberFormatException 某段不是合法的long时
+	 */
+	public static long[] splitToLongArray(final String value, final String delimiter) {
+		if (!SpecialUtil.isNotEmpty(value)) {
+			return new long[0];
+		}
+		long[] results = new long[countTokens(value, delimiter)];
+		int size = parseTokens(value, delimiter, results, null);
+		return size == results.length ? results : Arrays.copyOf(results, size);
+	}
+
+	/**
+	 * 按字面分隔符分隔并解析到可重复使用的缓冲中，缓冲先被清空
+	 *
+	 * @param value     原始字符串
+	 * @param delimiter 分隔符
+	 * @param buffer    缓冲
+	 * @return buffer
+	 * @throws NumberFormatException 某段不是合法的long时
+	 */
+	public static LongArrayBuffer splitToLongArray(final String value, final String delimiter, final LongArrayBuffer buffer) {
+		buffer.clear();
+		if (SpecialUtil.isNotEmpty(value)) {
+			buffer.ensureCapacity(countTokens(value, delimiter));
+			buffer.size = parseTokens(value, delimiter, buffer.elements, null);
+		}
+		return buffer;
+	}
+
+	/**
+	 * 以`,`分隔为int数组
+	 *
+	 * @param value 原始字符串
+	 * @return int[]
+	 */
+	public static int[] splitToIntArray(final String value) {
+		return splitToIntArray(value, ",");
+	}
+
+	/**
+	 * 按字面分隔符分隔为int数组，规则同 #splitToLongArray(String, String)
+	 *
+	 * @param value     原始字符串
+	 * @param delimiter 分隔符
+	 * @return int[]
+	 * @throws NumberFormatException 某段不是合法的int时
+	 */
+	public static int[] splitToIntArray(final String value, final String delimiter) {
+		if (!SpecialUtil.isNotEmpty(value)) {
+			return new int[0];
+		}
+		int[] results = new int[countTokens(value, delimiter)];
+		int size = parseTokens(value, delimiter, null, results);
+		return size == results.length ? results : Arrays.copyOf(results, size);
+	}
+
+	/**
+	 * 字面分隔的段数上限(分隔符个数+1，尾部空段尚未舍弃)
+	 */
+	private static int countTokens(final String value, final String delimiter) {
+		int step = delimiter.length();
+		if (step == 0) {
+			return 1;
+		}
+		int count = 1;
+		if (step == 1) {
+			char single = delimiter.charAt(0);
+			for (int i = value.indexOf(single); i >= 0; i = value.indexOf(single, i + 1)) {
+				count++;
+			}
+			return count;
+		}
+		for (int i = value.indexOf(delimiter); i >= 0; i = value.indexOf(delimiter, i + step)) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 字面分隔并逐段解析，写入longs或ints(二者取一)，分段规则同 #literal
+	 *
+	 * @return 写入个数
+	 */
+	private static int parseTokens(final String value, final String delimiter, final long[] longs, final int[] ints) {
+		int length = value.length();
+		int step = delimiter.length();
+		boolean asInt = ints != null;
+		int size = 0;
+		int pendingEmpty = 0;
+		int from = 0;
+		while (from <= length) {
+			int to = step == 0 ? length : step == 1 ? value.indexOf(delimiter.charAt(0), from) : value.indexOf(delimiter, from);
+			if (to < 0) {
+				to = length;
+			}
+			if (to == from) {
+				pendingEmpty++;
+			} else {
+				if (pendingEmpty > 0) {
+					/*中间的空段，与Long.parseLong("")一致抛出异常*/
+					parseToken(value, from, from, asInt);
+				}
+				long parsed = parseToken(value, from, to, asInt);
+				if (asInt) {
+					ints[size++] = (int) parsed;
+				} else {
+					longs[size++] = parsed;
+				}
+			}
+			if (step == 0) {
+				break;
+			}
+			from = to + step;
+		}
+		return size;
+	}
+
+	/**
+	 * 在原字符串上解析[from,to)，快速路径不适用时交由Long.parseLong/Integer.parseInt，结果及异常与之一致
+	 */
+	private static long parseToken(final String value, final int from, final int to, final boolean asInt) {
+		long parsed = from < to ? NumberParser.parseLong(value, from, to, asInt ? Integer.MIN_VALUE : Long.MIN_VALUE, asInt ? Integer.MAX_VALUE : Long.MAX_VALUE) : NumberParser.FAILED;
+		if (parsed != NumberParser.FAILED) {
+			return parsed;
+		}
+		String token = value.substring(from, to);
+		return asInt ? Integer.parseInt(token) : Long.parseLong(token);
+	}
+
+	private static boolean isLiteral(final String splitChar) {
+		if (splitChar.isEmpty()) {
+			return false;
+		}
+		for (int i = 0, length = splitChar.length(); i < length; i++) {
+			if (REGEX_META.indexOf(splitChar.charAt(i)) >= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 字面分隔：空段先计数，遇到非空段时再依次转换，到末尾仍未遇到非空段的即为尾部空段，直接舍弃.
+	 * convert与biConvert二者取一，前者不传段序号
+	 */
+	private static <T> List<T> literal(final String value, final String delimiter, final Function<String, T> convert, final BiFunction<Integer, String, T> biConvert) {
+		List<T> results = new ArrayList<>();
+		int length = value.length();
+		int step = delimiter.length();
+		if (step == 0) {
+			results.add(convert != null ? convert.apply(value) : biConvert.apply(0, value));
+			return results;
+		}
+		char single = delimiter.charAt(0);
+		int pendingEmpty = 0;
+		int from = 0;
+		while (from <= length) {
+			int to = step == 1 ? value.indexOf(single, from) : value.indexOf(delimiter, from);
+			if (to < 0) {
+				to = length;
+			}
+			if (to == from) {
+				pendingEmpty++;
+			} else {
+				for (; pendingEmpty > 0; pendingEmpty--) {
+					results.add(convert != null ? convert.apply(EMPTY) : biConvert.apply(results.size(), EMPTY));
+				}
+				String token = value.substring(from, to);
+				results.add(convert != null ? convert.apply(token) : biConvert.apply(results.size(), token));
+			}
+			from = to + step;
+		}
+		return results;
+	}
+
 	/**
 	 * 分隔为Long结果集
 	 *
@@ -214,7 +483,7 @@ public final class StringValueUtil {
 		if (Objects.isNull(value) || value.length() < 1) {
 			return value;
 		}
-		return String.join(EMPTY, StringValueUtil.splitTo(value, "_(?<=\\S)", k -> k.length() > 0 ? Character.toUpperCase(k.charAt(0)) + k.substring(1) : k));
+		return toHump(value, true);
 	}
 
 	/**
@@ -227,7 +496,7 @@ public final class StringValueUtil {
 		if (Objects.isNull(value) || value.length() < 1) {
 			return value;
 		}
-		return String.join(EMPTY, StringValueUtil.splitBiTo(value, "_(?<=\\S)", (i, k) -> i > 0 && k.length() > 0 ? Character.toUpperCase(k.charAt(0)) + k.substring(1) : k));
+		return toHump(value, false);
 	}
 
 	/**
@@ -240,7 +509,7 @@ public final class StringValueUtil {
 		if (Objects.isNull(value) || value.length() < 1) {
 			return value;
 		}
-		return String.join(EMPTY, StringValueUtil.splitBiTo(value, "(?=[A-Z])", (i, k) -> k.length() > 0 ? (i > 0 ? "_" : "") + Character.toLowerCase(k.charAt(0)) + k.substring(1) : k));
+		return toUnderline(value, true);
 	}
 
 	/**
@@ -253,7 +522,136 @@ public final class StringValueUtil {
 		if (Objects.isNull(value) || value.length() < 1) {
 			return value;
 		}
-		return String.join(EMPTY, StringValueUtil.splitBiTo(value, "(?=[A-Z])", (i, k) -> i > 0 && k.length() > 0 ? "_" + Character.toLowerCase(k.charAt(0)) + k.substring(1) : k));
+		return toUnderline(value, false);
+	}
+
+	/**
+	 * 下划线转驼峰,结果按字符串缓存.
+	 * 适用于取值范围很小且反复出现的字符串(如数据库列名)
+	 *
+	 * @param value 下划线字符串
+	 * @return 驼峰字符串
+	 */
+	public static String humpCached(final String value) {
+		if (Objects.isNull(value) || value.length() < 1) {
+			return value;
+		}
+		return CaseCaches.HUMP.get(value, StringValueUtil::hump);
+	}
+
+	/**
+	 * 下划线转驼峰,忽略首项,结果按字符串缓存
+	 *
+	 * @param value 下划线字符串
+	 * @return 驼峰字符串
+	 */
+	public static String humpNonFirstCached(final String value) {
+		if (Objects.isNull(value) || value.length() < 1) {
+			return value;
+		}
+		return CaseCaches.HUMP_NON_FIRST.get(value, StringValueUtil::humpNonFirst);
+	}
+
+	/**
+	 * 驼峰转下划线,结果按字符串缓存
+	 *
+	 * @param value 驼峰字符串
+	 * @return 下划线字符串
+	 */
+	public static String underlineCached(final String value) {
+		if (Objects.isNull(value) || value.length() < 1) {
+			return value;
+		}
+		return CaseCaches.UNDERLINE.get(value, StringValueUtil::underline);
+	}
+
+	/**
+	 * 驼峰转下划线,忽略首项,结果按字符串缓存
+	 *
+	 * @param value 驼峰字符串
+	 * @return 下划线字符串
+	 */
+	public static String underlineNonFirstCached(final String value) {
+		if (Objects.isNull(value) || value.length() < 1) {
+			return value;
+		}
+		return CaseCaches.UNDERLINE_NON_FIRST.get(value, StringValueUtil::underlineNonFirst);
+	}
+
+	/**
+	 * 单次扫描:去掉下划线,下划线之后的字符转大写;upperFirst时首字符同样转大写
+	 */
+	private static String toHump(final String value, final boolean upperFirst) {
+		int length = value.length();
+		if (value.indexOf('_') < 0) {
+			char first = value.charAt(0);
+			char head = upperFirst ? Character.toUpperCase(first) : first;
+			return head == first ? value : head + value.substring(1);
+		}
+		char[] chars = new char[length];
+		int size = 0;
+		boolean upper = upperFirst;
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '_') {
+				upper = true;
+				continue;
+			}
+			chars[size++] = upper ? Character.toUpperCase(c) : c;
+			upper = false;
+		}
+		return new String(chars, 0, size);
+	}
+
+	/**
+	 * 单次扫描:首字符之后的每个A-Z前插入下划线并转小写;lowerFirst时首字符转小写
+	 */
+	private static String toUnderline(final String value, final boolean lowerFirst) {
+		int length = value.length();
+		int uppers = 0;
+		for (int i = 1; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= 'A' && c <= 'Z') {
+				uppers++;
+			}
+		}
+		char first = value.charAt(0);
+		char head = lowerFirst ? Character.toLowerCase(first) : first;
+		if (uppers == 0 && head == first) {
+			return value;
+		}
+		char[] chars = new char[length + uppers];
+		chars[0] = head;
+		int size = 1;
+		for (int i = 1; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= 'A' && c <= 'Z') {
+				chars[size++] = '_';
+				chars[size++] = (char) (c + ('a' - 'A'));
+			} else {
+				chars[size++] = c;
+			}
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * 驼峰/下划线转换结果缓存,首次使用缓存方法时才创建
+	 */
+	private static final class CaseCaches {
+
+		/**
+		 * 每种转换的缓存容量
+		 */
+		private static final int SIZE = 1024;
+
+		static final BoundedCache<String, String> HUMP = new BoundedCache<>(SIZE);
+
+		static final BoundedCache<String, String> HUMP_NON_FIRST = new BoundedCache<>(SIZE);
+
+		static final BoundedCache<String, String> UNDERLINE = new BoundedCache<>(SIZE);
+
+		static final BoundedCache<String, String> UNDERLINE_NON_FIRST = new BoundedCache<>(SIZE);
 	}
 
 	/**
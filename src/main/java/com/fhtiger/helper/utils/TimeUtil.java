@@ -2,26 +2,40 @@ package com.fhtiger.helper.utils;
 
 
 import com.fhtiger.helper.utils.helpful.AssertDetect;
+import com.fhtiger.helper.utils.helpful.BoundedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.sql.Time;
+import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Spliterator;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * DUtil
@@ -41,14 +55,36 @@ public final class TimeUtil {
 	}
 
 	/**
-	 * 线程级缓存引擎
+	 * 默认引擎
 	 */
-	private static final InheritableThreadLocal<Engine> ENGINE_LOCAL = new InheritableThreadLocal<>() {
-		@Override
-		protected Engine initialValue() {
-			return Engine.ES;
-		}
-	};
+	private static final Engine DEFAULT_ENGINE = Engine.ES;
+
+	/**
+	 * 线程级引擎，仅在{@link #use(Engine, Supplier)}范围内设置，不传递给子线程(子线程中请使用{@link #with(Engine)})
+	 */
+	private static final ThreadLocal<Engine> ENGINE_LOCAL = new ThreadLocal<>();
+
+	/**
+	 * 当前线程使用的引擎，热点代码请使用{@link #with(Engine)}，不查找线程级状态
+	 *
+	 * @return {@link Engine}
+	 */
+	private static Engine engine() {
+		Engine engine = ENGINE_LOCAL.get();
+		return engine == null ? DEFAULT_ENGINE : engine;
+	}
+
+	/**
+	 * 绑定指定引擎的操作对象，不依赖线程级状态，可在任意线程(包括虚拟线程)中共享
+	 * e.g. <br>TimeUtil.with(TimeUtil.Engine.ED).getDate(TimeUtil.DateType.C, "2020-04-26 15:24:00");
+	 *
+	 * @param engine 引擎{@link Engine}
+	 * @return {@link Bound}
+	 */
+	public static Bound with(Engine engine) {
+		AssertDetect.notNull(new Object[] { engine }, "引擎不能为空!");
+		return engine.bound;
+	}
 
 	/**
 	 * 临时指定引擎进行操作并返回指定类型值
@@ -66,12 +102,18 @@ public final class TimeUtil {
 	 * @return R
 	 */
 	public static <R> R use(Engine engine, Supplier<R> doing) {
+		Engine previous = ENGINE_LOCAL.get();
 		try {
 			ENGINE_LOCAL.set(engine);
 			return doing.get();
 		}
 		finally {
-			ENGINE_LOCAL.remove();
+			/*嵌套使用时恢复外层引擎*/
+			if (previous == null) {
+				ENGINE_LOCAL.remove();
+			} else {
+				ENGINE_LOCAL.set(previous);
+			}
 		}
 	}
 
@@ -210,8 +252,133 @@ public final class TimeUtil {
 		return segmentsDateRange(start, end);
 	}
 
+	/**
+	 * 对一个纪元毫秒区间进行分段，分段规则与{@link #dateRange2Segments(Date, int, ChronoUnit, Date)}一致
+	 * <p>
+	 * 返回n+1个分界点，第i段为[bounds[i],bounds[i+1]]
+	 *
+	 * @param start    起始纪元毫秒
+	 * @param separate 分段大小.
+	 * @param unit     分段单位(不小于毫秒)
+	 * @param end      结束纪元毫秒
+	 * @return 分段分界点
+	 */
+	public static long[] dateRange2Segments(long start, int separate, ChronoUnit unit, long end) {
+		AssertDetect.test(separate != 0, "分段大小不能为0");
+		ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+		return SegmentPlan.of(start, zone.toLocal(start), separate, unit, end, zone.toLocal(end)).bounds();
+	}
+
+	/**
+	 * 对一个时间区间进行分段，惰性生成各分段，分段规则与{@link #dateRange2Segments(Date, int, ChronoUnit, Date)}一致
+	 * <p>
+	 * 分段数量预先确定，可直接用于并行流，拆分时按序号计算分界点而不逐段迭代
+	 *
+	 * @param start    起始时间
+	 * @param separate 分段大小.
+	 * @param unit     分段单位(不小于毫秒)
+	 * @param end      结束时间
+	 * @return 时间分段流
+	 */
+	public static Stream<Date[]> dateRange2SegmentStream(Date start, int separate, ChronoUnit unit, Date end) {
+		return StreamSupport.stream(dateRange2SegmentSpliterator(start, separate, unit, end), false);
+	}
+
+	/**
+	 * 对一个时间区间进行分段，惰性生成各分段，默认结束时间为当前时间
+	 *
+	 * @param start    起始时间
+	 * @param separate 分段大小.
+	 * @param unit     分段单位(不小于毫秒)
+	 * @return 时间分段流
+	 */
+	public static Stream<Date[]> dateRange2SegmentStream(Date start, int separate, ChronoUnit unit) {
+		return dateRange2SegmentStream(start, separate, unit, new Date());
+	}
+
+	/**
+	 * 对一个时间区间进行分段，返回按序号惰性生成分段的{@link Spliterator}
+	 *
+	 * @param start    起始时间
+	 * @param separate 分段大小.
+	 * @param unit     分段单位(不小于毫秒)
+	 * @param end      结束时间
+	 * @return 时间分段{@link Spliterator}
+	 */
+	public static Spliterator<Date[]> dateRange2SegmentSpliterator(Date start, int separate, ChronoUnit unit, Date end) {
+		AssertDetect.notNull(new Object[] { start, end }, "开始时间不能为空!", "结束时间不能为空!");
+		AssertDetect.test(separate != 0, "分段大小不能为0");
+		long startLocal = localMillis(toLocalDateTime(start));
+		long endLocal = localMillis(toLocalDateTime(end));
+		SegmentPlan plan = SegmentPlan.of(start.getTime(), startLocal, separate, unit, end.getTime(), endLocal);
+		/*时间区间方向校正*/
+		return startLocal > endLocal ? new SegmentPlan.DateSegments(plan, end, start) : new SegmentPlan.DateSegments(plan, start, end);
+	}
+
+	/**
+	 * 按日历边界对时间区间分段，分界点为整点、当地零点、ISO周一、月初、季初或年初
+	 * <p>
+	 * 首个分界点为起始时间之后的第一个日历边界，此后每隔separate个边界取一个分界点，首段与末段可能不完整；
+	 * 夏令时变更处按实际时刻对齐(间隙中不存在的整点被跳过，重叠时两个整点都会出现)。
+	 * e.g. <br>TimeUtil.dateRange2CalendarSegments(start, 1, IsoFields.QUARTER_YEARS, end);
+	 *
+	 * @param start    起始时间
+	 * @param separate 每段包含的边界单位数.
+	 * @param unit     {@link ChronoUnit#HOURS},{@link ChronoUnit#DAYS},{@link ChronoUnit#WEEKS},{@link ChronoUnit#MONTHS},{@link java.time.temporal.IsoFields#QUARTER_YEARS},{@link ChronoUnit#YEARS}
+	 * @param end      结束时间
+	 * @return 时间分段列表
+	 */
+	public static List<Date[]> dateRange2CalendarSegments(Date start, int separate, TemporalUnit unit, Date end) {
+		AssertDetect.notNull(new Object[] { start, end }, "开始时间不能为空!", "结束时间不能为空!");
+		long[] bounds = dateRange2CalendarSegments(start.getTime(), separate, unit, end.getTime());
+		/*时间区间方向校正*/
+		if (start.getTime() > end.getTime()) {
+			Date it = start;
+			start = end;
+			end = it;
+		}
+		int size = bounds.length - 1;
+		List<Date[]> segments = new ArrayList<>(size);
+		Date bound = start;
+		for (int i = 1; i <= size; i++) {
+			Date next = i == size ? end : new Date(bounds[i]);
+			segments.add(new Date[] { bound, next });
+			bound = next;
+		}
+		return segments;
+	}
+
+	/**
+	 * 按日历边界对纪元毫秒区间分段，分段规则与{@link #dateRange2CalendarSegments(Date, int, TemporalUnit, Date)}一致，
+	 * 以预先展开的时区偏移表计算，耗时与分段数量成正比
+	 *
+	 * @param start    起始纪元毫秒
+	 * @param separate 每段包含的边界单位数.
+	 * @param unit     {@link ChronoUnit#HOURS},{@link ChronoUnit#DAYS},{@link ChronoUnit#WEEKS},{@link ChronoUnit#MONTHS},{@link java.time.temporal.IsoFields#QUARTER_YEARS},{@link ChronoUnit#YEARS}
+	 * @param end      结束纪元毫秒
+	 * @return 分段分界点，第i段为[bounds[i],bounds[i+1]]
+	 */
+	public static long[] dateRange2CalendarSegments(long start, int separate, TemporalUnit unit, long end) {
+		AssertDetect.test(separate != 0, "分段大小不能为0");
+		return CalendarSegments.bounds(start, separate, unit, end, ZoneOffsetTable.systemDefault());
+	}
+
+	private static long localMillis(LocalDateTime localDateTime) {
+		return localDateTime.toEpochSecond(ZoneOffset.UTC) * 1000 + localDateTime.getNano() / 1_000_000;
+	}
+
 	/* 日期对象类型转换 */
 
+	/**
+	 * 系统默认时区变更后调用，立即重新加载{@link Engine#EF}及"当前时间"等方法使用的时区规则，并清空格式化对象缓存
+	 * <p>
+	 * 不调用时，默认时区变更由"当前时间"相关方法及{@link CachedClock}的刷新线程每秒至多核对一次后生效
+	 */
+	public static void refreshDefaultZone() {
+		ZoneOffsetTable.resetSystemDefault();
+		FORMATTER_CACHE.clear();
+	}
+
 	/**
 	 * Date to LocalDateTime
 	 *
@@ -264,13 +431,451 @@ public final class TimeUtil {
 		return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
 	}
 
+	/* 纪元毫秒 */
+
+	/**
+	 * LocalDateTime to 纪元毫秒(默认时区)
+	 *
+	 * @param localDateTime LocalDateTime
+	 * @return 纪元毫秒
+	 */
+	public static long toEpochMillis(LocalDateTime localDateTime) {
+		return ZoneOffsetTable.systemDefault().toEpoch(localMillis(localDateTime));
+	}
+
+	/**
+	 * 纪元毫秒 to LocalDateTime(默认时区)
+	 *
+	 * @param epochMillis 纪元毫秒
+	 * @return {@link LocalDateTime}
+	 */
+	public static LocalDateTime toLocalDateTime(long epochMillis) {
+		long localMillis = ZoneOffsetTable.systemDefault().toLocal(epochMillis);
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), (int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+	}
+
+	/**
+	 * 将字符串以指定格式解析为纪元毫秒，不创建{@link Date}对象
+	 *
+	 * @param type {@link DateType}
+	 * @param text 日期字符串
+	 * @return 纪元毫秒
+	 * @throws java.time.format.DateTimeParseException 无法解析时
+	 */
+	public static long parseEpochMillis(DateType type, CharSequence text) {
+		FastDateFormatter formatter = type.fastFormatter();
+		long local = formatter.parseLocal(text);
+		if (local == FastDateFormatter.INVALID) {
+			return Engine.ED.parseDate(formatter.fallback(), text.toString()).getTime();
+		}
+		return ZoneOffsetTable.systemDefault().toEpoch(local);
+	}
+
+	/* 批量解析 */
+
+	/**
+	 * 并行批量解析时每个子任务的最小条数
+	 */
+	private static final int COLUMN_PARSE_THRESHOLD = 8192;
+
+	/**
+	 * 将一列日期字符串批量解析为纪元毫秒
+	 * <p>
+	 * 格式化对象与时区规则只解析一次；空值及无法解析的项不抛出异常也不记录日志，
+	 * 而是在failures中置位，其对应的结果位保持原值.
+	 * <p>
+	 * 批量解析固定按{@link Engine#EF}的规则(严格解析，结果与{@link Engine#ED}一致)，不受当前引擎(默认引擎或{@link #with(Engine)}指定的引擎)影响；
+	 * 默认引擎{@link Engine#ES}宽松解析(如月份13顺延至次年)，同一列数据经getDate解析的结果可能与此不同
+	 *
+	 * @param type     {@link DateType}
+	 * @param texts    日期字符串列
+	 * @param out      结果纪元毫秒，长度不小于texts
+	 * @param failures 失败项索引
+	 * @return 失败项数量
+	 */
+	public static int parseEpochMillis(DateType type, CharSequence[] texts, long[] out, BitSet failures) {
+		AssertDetect.test(out.length >= texts.length, "结果数组长度不足");
+		return parseColumn(type.fastFormatter(), ZoneOffsetTable.systemDefault(), texts, 0, texts.length, out, failures);
+	}
+
+	/**
+	 * 将一列日期字符串批量解析为纪元毫秒
+	 *
+	 * @param type     {@link DateType}
+	 * @param texts    日期字符串列
+	 * @param out      结果纪元毫秒，长度不小于texts
+	 * @param failures 失败项索引
+	 * @return 失败项数量
+	 * @see #parseEpochMillis(DateType, CharSequence[], long[], BitSet)
+	 */
+	public static int parseEpochMillis(DateType type, List<? extends CharSequence> texts, long[] out, BitSet failures) {
+		AssertDetect.test(out.length >= texts.size(), "结果数组长度不足");
+		FastDateFormatter formatter = type.fastFormatter();
+		ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+		int failed = 0;
+		int i = 0;
+		for (CharSequence text : texts) {
+			long millis = parseColumnItem(formatter, zone, text);
+			if (millis == FastDateFormatter.INVALID) {
+				failures.set(i);
+				failed++;
+			} else {
+				out[i] = millis;
+			}
+			i++;
+		}
+		return failed;
+	}
+
+	/**
+	 * 将一列日期字符串拆分到{@link ForkJoinPool}中并行解析为纪元毫秒
+	 *
+	 * @param type     {@link DateType}
+	 * @param texts    日期字符串列
+	 * @param out      结果纪元毫秒，长度不小于texts
+	 * @param failures 失败项索引
+	 * @param pool     执行池，为null时使用{@link ForkJoinPool#commonPool()}
+	 * @return 失败项数量
+	 * @see #parseEpochMillis(DateType, CharSequence[], long[], BitSet)
+	 */
+	public static int parseEpochMillis(DateType type, CharSequence[] texts, long[] out, BitSet failures, ForkJoinPool pool) {
+		if (texts.length <= COLUMN_PARSE_THRESHOLD) {
+			return parseEpochMillis(type, texts, out, failures);
+		}
+		AssertDetect.test(out.length >= texts.length, "结果数组长度不足");
+		ColumnParseTask task = new ColumnParseTask(type.fastFormatter(), ZoneOffsetTable.systemDefault(), texts, 0, texts.length, out, failures);
+		return (pool == null ? ForkJoinPool.commonPool() : pool).invoke(task);
+	}
+
+	/**
+	 * 将一列日期字符串拆分到{@link ForkJoinPool}中并行解析为纪元毫秒
+	 *
+	 * @param type     {@link DateType}
+	 * @param texts    日期字符串列
+	 * @param out      结果纪元毫秒，长度不小于texts
+	 * @param failures 失败项索引
+	 * @param pool     执行池，为null时使用{@link ForkJoinPool#commonPool()}
+	 * @return 失败项数量
+	 * @see #parseEpochMillis(DateType, CharSequence[], long[], BitSet)
+	 */
+	public static int parseEpochMillis(DateType type, List<? extends CharSequence> texts, long[] out, BitSet failures, ForkJoinPool pool) {
+		if (texts.size() <= COLUMN_PARSE_THRESHOLD) {
+			return parseEpochMillis(type, texts, out, failures);
+		}
+		return parseEpochMillis(type, texts.toArray(new CharSequence[0]), out, failures, pool);
+	}
+
+	private static int parseColumn(FastDateFormatter formatter, ZoneOffsetTable zone, CharSequence[] texts, int from, int to, long[] out, BitSet failures) {
+		int failed = 0;
+		for (int i = from; i < to; i++) {
+			long millis = parseColumnItem(formatter, zone, texts[i]);
+			if (millis == FastDateFormatter.INVALID) {
+				failures.set(i);
+				failed++;
+			} else {
+				out[i] = millis;
+			}
+		}
+		return failed;
+	}
+
+	private static long parseColumnItem(FastDateFormatter formatter, ZoneOffsetTable zone, CharSequence text) {
+		if (text == null || text.isEmpty()) {
+			return FastDateFormatter.INVALID;
+		}
+		return formatter.parseEpochQuietly(text, zone);
+	}
+
+	/**
+	 * 按索引区间二分的批量解析任务，子任务失败项先记入自身的{@link BitSet}后再合并
+	 */
+	private static final class ColumnParseTask extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final FastDateFormatter formatter;
+		private final ZoneOffsetTable zone;
+		private final CharSequence[] texts;
+		private final int from;
+		private final int to;
+		private final long[] out;
+		private final BitSet failures;
+
+		ColumnParseTask(FastDateFormatter formatter, ZoneOffsetTable zone, CharSequence[] texts, int from, int to, long[] out, BitSet failures) {
+			this.formatter = formatter;
+			this.zone = zone;
+			this.texts = texts;
+			this.from = from;
+			this.to = to;
+			this.out = out;
+			this.failures = failures;
+		}
+
+		@Override
+		protected Integer compute() {
+			if (to - from <= COLUMN_PARSE_THRESHOLD) {
+				BitSet local = new BitSet();
+				int failed = parseColumn(formatter, zone, texts, from, to, out, local);
+				if (failed > 0) {
+					synchronized (failures) {
+						failures.or(local);
+					}
+				}
+				return failed;
+			}
+			int mid = (from + to) >>> 1;
+			ColumnParseTask left = new ColumnParseTask(formatter, zone, texts, from, mid, out, failures);
+			left.fork();
+			int right = new ColumnParseTask(formatter, zone, texts, mid, to, out, failures).compute();
+			return left.join() + right;
+		}
+	}
+
+	/**
+	 * 将纪元毫秒以指定格式写入{@link Appendable}，不创建中间字符串
+	 *
+	 * @param type        {@link DateType}
+	 * @param epochMillis 纪元毫秒
+	 * @param out         输出目标
+	 * @param <A>         输出目标类型
+	 * @return 输出目标
+	 * @throws IOException 写入失败时
+	 */
+	public static <A extends Appendable> A formatEpochMillis(DateType type, long epochMillis, A out) throws IOException {
+		FastDateFormatter formatter = type.fastFormatter();
+		if (!formatter.formatLocal(ZoneOffsetTable.systemDefault().toLocal(epochMillis), out)) {
+			out.append(Engine.ED.formatDate(formatter.fallback(), new Date(epochMillis)));
+		}
+		return out;
+	}
+
+	/* 格式化输出 */
+
+	/**
+	 * 将纪元毫秒以指定格式写入{@link StringBuilder}
+	 *
+	 * @param type        {@link DateType}
+	 * @param epochMillis 纪元毫秒
+	 * @param out         输出目标
+	 * @return 输出目标
+	 */
+	public static StringBuilder formatEpochMillis(DateType type, long epochMillis, StringBuilder out) {
+		try {
+			formatEpochMillis(type, epochMillis, (Appendable) out);
+			return out;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 将纪元毫秒以指定格式写入字节数组，ASCII字符按单字节写出，其余字符(如中文字面量)按UTF-8编码
+	 *
+	 * @param type        {@link DateType}
+	 * @param epochMillis 纪元毫秒
+	 * @param dest        目标数组
+	 * @param offset      起始位置
+	 * @return 写入结束位置(即下一个可写位置)
+	 * @throws IndexOutOfBoundsException 数组剩余空间不足时(已写入的部分不回滚)
+	 */
+	public static int formatEpochMillis(DateType type, long epochMillis, byte[] dest, int offset) {
+		ByteSink sink = new ByteSink(dest, offset);
+		appendEpochMillis(type, epochMillis, sink);
+		return sink.finish();
+	}
+
+	/**
+	 * 将纪元毫秒以指定格式写入{@link ByteBuffer}的当前位置，ASCII字符按单字节写出，其余字符按UTF-8编码
+	 *
+	 * @param type        {@link DateType}
+	 * @param epochMillis 纪元毫秒
+	 * @param dest        目标缓冲区，写入后位置后移
+	 * @return 目标缓冲区
+	 * @throws java.nio.BufferOverflowException 缓冲区剩余空间不足时(已写入的部分不回滚，位置不变)
+	 */
+	public static ByteBuffer formatEpochMillis(DateType type, long epochMillis, ByteBuffer dest) {
+		ByteSink sink = new ByteSink(dest);
+		appendEpochMillis(type, epochMillis, sink);
+		sink.finish();
+		return dest;
+	}
+
+	/**
+	 * 将日期以指定格式写入{@link Appendable}，不创建中间字符串；结果与{@link Engine#ED}一致
+	 *
+	 * @param type {@link DateType}
+	 * @param date {@link Date}，为null时不写入任何内容
+	 * @param out  输出目标
+	 * @param <A>  输出目标类型
+	 * @return 输出目标
+	 * @throws IOException 写入失败时
+	 */
+	public static <A extends Appendable> A formatDate(DateType type, Date date, A out) throws IOException {
+		if (date == null) {
+			return out;
+		}
+		/*java.sql.Date与java.sql.Time有特定的本地时间转换规则*/
+		if (date instanceof java.sql.Date || date instanceof Time) {
+			out.append(Engine.ED.formatDate(type.fastFormatter().fallback(), date));
+			return out;
+		}
+		return formatEpochMillis(type, date.getTime(), out);
+	}
+
+	/**
+	 * 将日期以指定格式写入{@link StringBuilder}
+	 *
+	 * @param type {@link DateType}
+	 * @param date {@link Date}，为null时不写入任何内容
+	 * @param out  输出目标
+	 * @return 输出目标
+	 */
+	public static StringBuilder formatDate(DateType type, Date date, StringBuilder out) {
+		try {
+			formatDate(type, date, (Appendable) out);
+			return out;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 将日期以指定格式写入字节数组，ASCII字符按单字节写出，其余字符按UTF-8编码
+	 *
+	 * @param type   {@link DateType}
+	 * @param date   {@link Date}，为null时不写入任何内容
+	 * @param dest   目标数组
+	 * @param offset 起始位置
+	 * @return 写入结束位置(即下一个可写位置)
+	 * @throws IndexOutOfBoundsException 数组剩余空间不足时(已写入的部分不回滚)
+	 */
+	public static int formatDate(DateType type, Date date, byte[] dest, int offset) {
+		ByteSink sink = new ByteSink(dest, offset);
+		appendDate(type, date, sink);
+		return sink.finish();
+	}
+
+	/**
+	 * 将日期以指定格式写入{@link ByteBuffer}的当前位置，ASCII字符按单字节写出，其余字符按UTF-8编码
+	 *
+	 * @param type {@link DateType}
+	 * @param date {@link Date}，为null时不写入任何内容
+	 * @param dest 目标缓冲区，写入后位置后移
+	 * @return 目标缓冲区
+	 * @throws java.nio.BufferOverflowException 缓冲区剩余空间不足时(已写入的部分不回滚，位置不变)
+	 */
+	public static ByteBuffer formatDate(DateType type, Date date, ByteBuffer dest) {
+		ByteSink sink = new ByteSink(dest);
+		appendDate(type, date, sink);
+		sink.finish();
+		return dest;
+	}
+
+	private static void appendEpochMillis(DateType type, long epochMillis, ByteSink sink) {
+		try {
+			formatEpochMillis(type, epochMillis, sink);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void appendDate(DateType type, Date date, ByteSink sink) {
+		try {
+			formatDate(type, date, sink);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/* 当前时间 */
+
+	/**
+	 * 时钟来源，为null时使用系统时钟
+	 */
+	private static volatile Clock clock;
+
+	/**
+	 * 当日起止时间，跨日或时区变更后重新计算
+	 */
+	private static volatile Today today;
+
+	/**
+	 * 指定"当前时间"相关方法使用的时钟，时区仍取系统默认时区
+	 * e.g. <br>TimeUtil.useClock(CachedClock.shared());
+	 *
+	 * @param clock 时钟，为null时恢复为系统时钟
+	 * @see CachedClock
+	 */
+	public static void useClock(Clock clock) {
+		TimeUtil.clock = clock;
+		today = null;
+	}
+
+	/**
+	 * 使用共享的毫秒级缓存时钟({@link CachedClock#shared()})
+	 */
+	public static void useCachedClock() {
+		useClock(CachedClock.shared());
+	}
+
+	/**
+	 * 当前使用的时钟
+	 *
+	 * @return {@link Clock}
+	 */
+	public static Clock clock() {
+		Clock current = clock;
+		return current == null ? Clock.systemDefaultZone() : current;
+	}
+
+	/**
+	 * 当前纪元毫秒
+	 *
+	 * @return 纪元毫秒
+	 */
+	public static long currentTimeMillis() {
+		Clock current = clock;
+		return current == null ? System.currentTimeMillis() : current.millis();
+	}
+
+	private static Today today() {
+		long now = currentTimeMillis();
+		ZoneOffsetTable zone = ZoneOffsetTable.systemDefault(now);
+		Today current = today;
+		if (current == null || now < current.start() || now >= current.end() || current.zone() != zone) {
+			today = current = Today.of(zone, now);
+		}
+		return current;
+	}
+
+	/**
+	 * 当日起止时间
+	 *
+	 * @param zone     时区偏移表
+	 * @param start    当日起始纪元毫秒
+	 * @param end      次日起始纪元毫秒
+	 * @param last     当日最后一毫秒
+	 * @param date     当日
+	 * @param endTime  次日起始时间
+	 * @param lastTime 当日最大时间
+	 */
+	private record Today(ZoneOffsetTable zone, long start, long end, long last, LocalDate date, LocalDateTime endTime, LocalDateTime lastTime) {
+
+		static Today of(ZoneOffsetTable zone, long now) {
+			long epochDay = EpochMath.epochDayOf(zone.toLocal(now));
+			long nextLocal = (epochDay + 1) * EpochMath.MILLIS_PER_DAY;
+			LocalDate date = LocalDate.ofEpochDay(epochDay);
+			return new Today(zone, zone.toEpoch(epochDay * EpochMath.MILLIS_PER_DAY), zone.toEpoch(nextLocal), zone.toEpoch(nextLocal - 1), date, date.plusDays(1).atStartOfDay(), date.atTime(LocalTime.MAX));
+		}
+	}
+
 	/**
 	 * 当前日期
 	 *
 	 * @return {@link LocalDate}
 	 */
 	public static LocalDate nowLocalDate() {
-		return LocalDate.now(ZoneId.systemDefault());
+		return today().date();
 	}
 
 	/**
@@ -279,7 +884,8 @@ public final class TimeUtil {
 	 * @return {@link LocalDateTime}
 	 */
 	public static LocalDateTime nowLocalDateTime() {
-		return LocalDateTime.now(ZoneId.systemDefault());
+		Clock current = clock;
+		return current == null ? LocalDateTime.now(ZoneId.systemDefault()) : toLocalDateTime(current.millis());
 	}
 
 	/**
@@ -288,7 +894,7 @@ public final class TimeUtil {
 	 * @return {@link LocalDateTime}
 	 */
 	public static LocalDateTime nowLocalDateEndTime() {
-		return LocalDate.now(ZoneId.systemDefault()).plusDays(1).atStartOfDay();
+		return today().endTime();
 	}
 
 	/**
@@ -297,7 +903,7 @@ public final class TimeUtil {
 	 * @return {@link LocalDateTime}
 	 */
 	public static LocalDateTime nowLocalDateLastTime() {
-		return LocalDate.now(ZoneId.systemDefault()).atTime(LocalTime.MAX);
+		return today().lastTime();
 	}
 
 	/**
@@ -306,7 +912,7 @@ public final class TimeUtil {
 	 * @return {@link Date}
 	 */
 	public static Date nowDate() {
-		return toDate(nowLocalDate());
+		return new Date(today().start());
 	}
 
 	/**
@@ -315,7 +921,7 @@ public final class TimeUtil {
 	 * @return {@link Date}
 	 */
 	public static Date nowDateTime() {
-		return toDate(nowLocalDateTime());
+		return new Date(currentTimeMillis());
 	}
 
 	/**
@@ -324,7 +930,7 @@ public final class TimeUtil {
 	 * @return {@link Date}
 	 */
 	public static Date nowDateEndTime() {
-		return toDate(nowLocalDateEndTime());
+		return new Date(today().end());
 	}
 
 	/**
@@ -333,15 +939,63 @@ public final class TimeUtil {
 	 * @return {@link Date}
 	 */
 	public static Date nowDateLastTime() {
-		return toDate(nowLocalDateLastTime());
+		return new Date(today().last());
+	}
+
+	/* 格式化对象缓存 */
+
+	/**
+	 * 格式化对象缓存容量
+	 */
+	private static final int FORMATTER_CACHE_SIZE = 256;
+
+	/**
+	 * 格式化对象缓存，以(引擎,格式化字符串,方言)为键；
+	 * 线程安全的格式化对象直接共享，非线程安全的(如{@link SimpleDateFormat})以线程封闭方式持有
+	 */
+	private static final BoundedCache<FormatterKey, Supplier<Object>> FORMATTER_CACHE = new BoundedCache<>(FORMATTER_CACHE_SIZE);
+
+	/**
+	 * 格式化对象缓存，可用于查看命中、未命中及淘汰次数
+	 *
+	 * @return {@link BoundedCache}
+	 */
+	public static BoundedCache<?, ?> formatterCache() {
+		return FORMATTER_CACHE;
+	}
+
+	private static Supplier<Object> cachedFormatter(Engine engine, String pattern, Locale locale) {
+		return FORMATTER_CACHE.get(new FormatterKey(engine, pattern, locale), TimeUtil::createFormatterHolder);
+	}
+
+	private static Supplier<Object> createFormatterHolder(FormatterKey key) {
+		final Engine engine = key.engine();
+		if (engine.threadSafe()) {
+			final Object formatter = engine.createFormatter(key.pattern(), key.locale());
+			return () -> formatter;
+		}
+		final ThreadLocal<Object> local = ThreadLocal.withInitial(() -> engine.createFormatter(key.pattern(), key.locale()));
+		return () -> {
+			Object formatter = local.get();
+			if (formatter instanceof DateFormat) {
+				syncDefaultTimeZone((DateFormat) formatter);
+			}
+			return formatter;
+		};
 	}
 
-	private static Date parseDate(Object formatter, String dateStr) {
-		return ENGINE_LOCAL.get().parseDate(formatter, dateStr);
+	/**
+	 * {@link DateFormat}在创建时取定默认时区，缓存的对象在默认时区变更后改用新的默认时区，与每次新建时一致
+	 */
+	private static void syncDefaultTimeZone(DateFormat formatter) {
+		TimeZone zone = TimeZone.getDefault();
+		TimeZone current = formatter.getTimeZone();
+		if (!zone.getID().equals(current.getID()) || !zone.hasSameRules(current)) {
+			formatter.setTimeZone(zone);
+		}
 	}
 
-	private static Object createFormatter(String pattern, Locale locale) {
-		return ENGINE_LOCAL.get().createFormatter(pattern, locale);
+	private record FormatterKey(Engine engine, String pattern, Locale locale) {
 	}
 
 	/**
@@ -352,7 +1006,8 @@ public final class TimeUtil {
 	 * @since 2017年4月24日 上午10:27:40
 	 */
 	public static String getNow(DateType type) {
-		return strDate(type, getNowDate(type));
+		Engine engine = engine();
+		return strDate(engine, type, getNowDate(engine, type));
 	}
 
 	public static Date getNowDate() {
@@ -360,11 +1015,23 @@ public final class TimeUtil {
 	}
 
 	public static Date getNowDate(DateType type) {
+		return getNowDate(engine(), type);
+	}
+
+	private static Date getNowDate(Engine engine, DateType type) {
 		Date now = null;
 		try {
 			type = type == null ? DateType.A : type;
-			Object formatter = createFormatter(type.value, type.locale);
-			now = parseDate(formatter, ENGINE_LOCAL.get().formatDate(formatter, new Date()));
+			long current = currentTimeMillis();
+			/*格式字段为从年开始的连续字段时直接截断，不再格式化后重新解析*/
+			ZoneOffsetTable zone = ZoneOffsetTable.systemDefault(current);
+			long local = type.fastFormatter().truncateLocal(zone.toLocal(current));
+			if (local != FastDateFormatter.INVALID) {
+				/*SimpleDateFormat在夏令时重叠时取较晚的偏移*/
+				return new Date(engine == Engine.ES ? zone.toEpochLater(local) : zone.toEpoch(local));
+			}
+			Object formatter = type.formatter(engine);
+			now = engine.parseDate(formatter, engine.formatDate(formatter, new Date(current)));
 		} catch (Exception e) {
 			logger.error("TimeUtil error: ",e);
 		}
@@ -381,7 +1048,7 @@ public final class TimeUtil {
 	 * @since 2017年12月9日 上午8:51:11
 	 */
 	public static Date getDate(String sdf, String date) {
-		return parseDate(createFormatter(sdf, null), date);
+		return getDate(engine(), sdf, null, date);
 	}
 
 	/**
@@ -395,7 +1062,11 @@ public final class TimeUtil {
 	 * @since 2017年12月9日 上午8:51:11
 	 */
 	public static Date getDate(String sdf, Locale locale, String date) {
-		return parseDate(createFormatter(sdf, locale), date);
+		return getDate(engine(), sdf, locale, date);
+	}
+
+	private static Date getDate(Engine engine, String sdf, Locale locale, String date) {
+		return engine.parseDate(engine.formatter(sdf, locale), date);
 	}
 
 	/**
@@ -408,27 +1079,25 @@ public final class TimeUtil {
 	 * @since 2017年11月2日 上午11:23:31
 	 */
 	public static String strDate(DateType sdf, Date date) {
+		return strDate(engine(), sdf, date);
+	}
+
+	private static String strDate(Engine engine, DateType sdf, Date date) {
 		if (date == null) {
 			return "";
 		}
-		return ENGINE_LOCAL.get().formatDate(createFormatter(sdf.value, sdf.locale), date);
+		return engine.formatDate(sdf.formatter(engine), date);
 	}
 
 	/**
 	 * 判断该字符串是否为日期类型
+	 * (yyyy-MM-dd / yyyy-MM-dd HH:mm:ss / yyyy-MM-dd HH:mm:ss.S*)
 	 *
 	 * @param str 字符串
 	 * @return boolean
 	 */
 	public static boolean isDateType(String str) {
-		boolean b = false;
-		String dateType1 = "\\d{4}-\\d{2}-\\d{2}\\s\\d{2}:\\d{2}:\\d{2}.\\d*";
-		String dateType2 = "\\d{4}-\\d{2}-\\d{2}\\s\\d{2}:\\d{2}:\\d{2}";
-		String dateType3 = "\\d{4}-\\d{2}-\\d{2}";
-		if (Pattern.matches(dateType1, str) || Pattern.matches(dateType2, str) || Pattern.matches(dateType3, str)) {
-			b = true;
-		}
-		return b;
+		return legacyDateShape(str) != 0;
 	}
 
 	/**
@@ -436,18 +1105,67 @@ public final class TimeUtil {
 	 *
 	 * @param str 字符串
 	 * @return 日期格式化字符串
+	 * @see #sniffDateType(CharSequence)
 	 */
 	public static String getDateType(String str) {
-		String dateType1 = "\\d{4}-\\d{2}-\\d{2}\\s\\d{2}:\\d{2}:\\d{2}.\\d*";
-		String dateType2 = "\\d{4}-\\d{2}-\\d{2}\\s\\d{2}:\\d{2}:\\d{2}";
-		String dateType3 = "\\d{4}-\\d{2}-\\d{2}";
-		if (Pattern.matches(dateType1, str) || Pattern.matches(dateType2, str)) {
+		switch (legacyDateShape(str)) {
+		case 2:
 			return "yyyy-MM-dd HH:mm:ss";
-		}
-		if (Pattern.matches(dateType3, str)) {
+		case 1:
 			return "yyyy-MM-dd";
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * 单次扫描识别字符串所属的预定义{@link DateType}，定长格式优先(如{@link DateType#A}优先于{@link DateType#A1})
+	 *
+	 * @param str 字符串
+	 * @return {@link DateType}，无法识别或取值不合法时为null
+	 */
+	public static DateType sniffDateType(CharSequence str) {
+		return DateTypeSniffer.sniff(str);
+	}
+
+	/**
+	 * 逐字符匹配 \d{4}-\d{2}-\d{2}(\s\d{2}:\d{2}:\d{2}(.\d*)?)?
+	 *
+	 * @param str 字符串
+	 * @return 0:不匹配,1:日期,2:日期时间
+	 */
+	private static int legacyDateShape(String str) {
+		int length = str.length();
+		if (length < 10 || !digits(str, 0, 4) || str.charAt(4) != '-' || !digits(str, 5, 7) || str.charAt(7) != '-' || !digits(str, 8, 10)) {
+			return 0;
+		}
+		if (length == 10) {
+			return 1;
 		}
-		return null;
+		char blank = str.charAt(10);
+		boolean whitespace = blank == ' ' || blank == '\t' || blank == '\n' || blank == '\u000B' || blank == '\f' || blank == '\r';
+		if (length < 19 || !whitespace || !digits(str, 11, 13) || str.charAt(13) != ':' || !digits(str, 14, 16) || str.charAt(16) != ':' || !digits(str, 17, 19)) {
+			return 0;
+		}
+		if (length == 19) {
+			return 2;
+		}
+		/*正则中的.不匹配行结束符*/
+		char any = str.charAt(19);
+		if (any == '\n' || any == '\r' || any == '\u0085' || any == '\u2028' || any == '\u2029') {
+			return 0;
+		}
+		return digits(str, 20, length) ? 2 : 0;
+	}
+
+	private static boolean digits(String str, int from, int to) {
+		for (int i = from; i < to; i++) {
+			char c = str.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	public static Date getDate(Object o) {
@@ -464,12 +1182,16 @@ public final class TimeUtil {
 	 * @since 2017年4月25日 下午5:36:05
 	 */
 	public static Date getDate(Object o, DateType type) {
+		return getDate(engine(), o, type);
+	}
+
+	private static Date getDate(Engine engine, Object o, DateType type) {
 		if (o == null) {
 			return null;
 		} else {
 			if (!SpecialUtil.isNull(o)) {
 				type = type == null ? DateType.A : type;
-				return parseDate(createFormatter(type.value, type.locale), o.toString());
+				return engine.parseDate(type.formatter(engine), o.toString());
 			} else {
 				return null;
 			}
@@ -627,6 +1349,38 @@ public final class TimeUtil {
 			this.locale = locale;
 		}
 
+		/**
+		 * 按引擎序号缓存的格式化对象持有者，首次使用时解析
+		 */
+		private volatile Supplier<?>[] formatters;
+
+		/**
+		 * 此格式的快速扫描格式化对象
+		 *
+		 * @return {@link FastDateFormatter}
+		 */
+		FastDateFormatter fastFormatter() {
+			return (FastDateFormatter) formatter(Engine.EF);
+		}
+
+		/**
+		 * 获取此格式在指定引擎下的格式化对象
+		 *
+		 * @param engine {@link Engine}
+		 * @return Formatter
+		 */
+		Object formatter(Engine engine) {
+			Supplier<?>[] holders = formatters;
+			if (holders == null) {
+				formatters = holders = new Supplier<?>[Engine.values().length];
+			}
+			Supplier<?> holder = holders[engine.ordinal()];
+			if (holder == null) {
+				holders[engine.ordinal()] = holder = cachedFormatter(engine, value, locale);
+			}
+			return holder.get();
+		}
+
 	}
 
 	public enum Engine implements TimeTransferEngine<Object> {
@@ -681,12 +1435,43 @@ public final class TimeUtil {
 			public String formatDate(SimpleDateFormat formatter, Date date) {
 				return formatter.format(date);
 			}
+
+			@Override
+			public boolean threadSafe() {
+				return false;
+			}
+		}),
+		/**
+		 * 将格式编译为数字扫描程序直接解析/格式化，不创建中间对象；
+		 * 不受支持的格式或扫描失败的输入交由{@link #ED}处理，结果与{@link #ED}一致
+		 */
+		EF(new TimeTransferEngine<FastDateFormatter>() {
+			@Override
+			public Date parseDate(FastDateFormatter formatter, String strDate) {
+				return formatter.parseDate(strDate);
+			}
+
+			@Override
+			public FastDateFormatter createFormatter(String pattern, Locale locale) {
+				return new FastDateFormatter(pattern, locale);
+			}
+
+			@Override
+			public String formatDate(FastDateFormatter formatter, Date date) {
+				return formatter.formatDate(date);
+			}
 		});
 		final TimeTransferEngine<Object> engine;
 
+		/**
+		 * 绑定此引擎的操作对象
+		 */
+		private final Bound bound;
+
 		@SuppressWarnings("unchecked")
 		Engine(TimeTransferEngine<?> engine) {
 			this.engine = (TimeTransferEngine<Object>) engine;
+			this.bound = new Bound(this);
 		}
 
 		@Override
@@ -704,6 +1489,22 @@ public final class TimeUtil {
 			return this.engine.formatDate(formatter, date);
 		}
 
+		@Override
+		public boolean threadSafe() {
+			return this.engine.threadSafe();
+		}
+
+		/**
+		 * 从缓存获取格式化对象，非线程安全的格式化对象为当前线程独享
+		 *
+		 * @param pattern 格式化字符串
+		 * @param locale  {@link Locale}
+		 * @return Formatter
+		 */
+		public Object formatter(String pattern, Locale locale) {
+			return cachedFormatter(this, pattern, locale).get();
+		}
+
 		/**
 		 * 临时指定引擎进行操作并返回指定类型值
 		 * e.g. <br>DUtil.use(DUtil.Engine.ED, ()-&gt;{
@@ -721,6 +1522,86 @@ public final class TimeUtil {
 			return TimeUtil.use(this, doing);
 		}
 	}
+
+	/**
+	 * 绑定指定引擎的日期操作，方法与{@link TimeUtil}中的同名方法一致，
+	 * 但不查找线程级引擎，适合在线程池或大量短生命周期线程中传递使用
+	 *
+	 * @see TimeUtil#with(Engine)
+	 */
+	public static final class Bound {
+
+		private final Engine engine;
+
+		private Bound(Engine engine) {
+			this.engine = engine;
+		}
+
+		public Engine engine() {
+			return engine;
+		}
+
+		/**
+		 * @see TimeUtil#getDate(String, String)
+		 */
+		public Date getDate(String sdf, String date) {
+			return TimeUtil.getDate(engine, sdf, null, date);
+		}
+
+		/**
+		 * @see TimeUtil#getDate(String, Locale, String)
+		 */
+		public Date getDate(String sdf, Locale locale, String date) {
+			return TimeUtil.getDate(engine, sdf, locale, date);
+		}
+
+		/**
+		 * @see TimeUtil#getDate(Object)
+		 */
+		public Date getDate(Object o) {
+			return TimeUtil.getDate(engine, o, null);
+		}
+
+		/**
+		 * @see TimeUtil#getDate(Object, DateType)
+		 */
+		public Date getDate(Object o, DateType type) {
+			return TimeUtil.getDate(engine, o, type);
+		}
+
+		/**
+		 * @see TimeUtil#strDate(DateType, Date)
+		 */
+		public String strDate(DateType sdf, Date date) {
+			return TimeUtil.strDate(engine, sdf, date);
+		}
+
+		/**
+		 * @see TimeUtil#getNow(DateType)
+		 */
+		public String getNow(DateType type) {
+			return TimeUtil.strDate(engine, type, TimeUtil.getNowDate(engine, type));
+		}
+
+		/**
+		 * @see TimeUtil#getNowDate()
+		 */
+		public Date getNowDate() {
+			return TimeUtil.getNowDate(engine, null);
+		}
+
+		/**
+		 * @see TimeUtil#getNowDate(DateType)
+		 */
+		public Date getNowDate(DateType type) {
+			return TimeUtil.getNowDate(engine, type);
+		}
+
+		@Override
+		public String toString() {
+			return "TimeUtil.Bound[" + engine + "]";
+		}
+	}
 }
 
 /**
@@ -755,4 +1636,13 @@ interface TimeTransferEngine<T> {
 	 * @return String
 	 */
 	String formatDate(T formatter, Date date);
+
+	/**
+	 * 格式化对象是否可被多线程共享
+	 *
+	 * @return boolean
+	 */
+	default boolean threadSafe() {
+		return true;
+	}
 }
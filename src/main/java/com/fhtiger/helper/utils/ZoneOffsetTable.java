@@ -0,0 +1,269 @@
+package com.fhtiger.helper.utils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * ZoneOffsetTable
+ * 预先展开时区规则中的偏移变更点，以二分查找在纪元毫秒与本地毫秒之间转换，常用年份范围内不创建任何对象
+ * <p>
+ * 本地时间转换与{@link LocalDateTime#atZone(ZoneId)}保持一致：
+ * 处于夏令时间隙时按间隙长度后移，处于重叠时取较早的偏移。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 11:20
+ */
+final class ZoneOffsetTable {
+
+	/**
+	 * 展开范围：1800-01-01 至 2200-01-01(UTC毫秒)，范围外直接查询{@link ZoneRules}
+	 */
+	private static final long COVER_FROM = -5364662400000L;
+
+	private static final long COVER_TO = 7258118400000L;
+
+	/**
+	 * 默认时区的核对间隔(毫秒)
+	 */
+	static final long CHECK_INTERVAL = 1000;
+
+	private static volatile ZoneOffsetTable systemDefault;
+
+	/**
+	 * 上次核对默认时区的时间，多线程下偶有重复核对无碍
+	 */
+	private static volatile long lastCheck;
+
+	private final ZoneId zone;
+
+	private final ZoneRules rules;
+
+	/**
+	 * 偏移变更点(UTC毫秒)
+	 */
+	private final long[] transitions;
+
+	/**
+	 * 变更点对应的本地时间分界(本地毫秒)，本地时间不小于此值时使用变更后的偏移
+	 */
+	private final long[] localThresholds;
+
+	/**
+	 * 偏移毫秒数，offsets[0]为首个变更点之前的偏移，offsets[i+1]为第i个变更点之后的偏移
+	 */
+	private final int[] offsets;
+
+	/**
+	 * 本地分界是否单调，非单调时本地时间转换退回{@link ZoneRules}
+	 */
+	private final boolean localSearchable;
+
+	private ZoneOffsetTable(ZoneId zone) {
+		this.zone = zone;
+		this.rules = zone.getRules();
+		if (rules.isFixedOffset()) {
+			this.transitions = new long[0];
+			this.localThresholds = new long[0];
+			this.offsets = new int[] { rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000 };
+			this.localSearchable = true;
+			return;
+		}
+		long[] utc = new long[64];
+		int[] offs = new int[65];
+		int size = 0;
+		offs[0] = rules.getOffset(Instant.ofEpochMilli(COVER_FROM)).getTotalSeconds() * 1000;
+		ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(COVER_FROM));
+		while (transition != null && transition.toEpochSecond() * 1000 < COVER_TO) {
+			if (size == utc.length) {
+				utc = Arrays.copyOf(utc, size << 1);
+				offs = Arrays.copyOf(offs, (size << 1) + 1);
+			}
+			utc[size] = transition.toEpochSecond() * 1000;
+			offs[size + 1] = transition.getOffsetAfter().getTotalSeconds() * 1000;
+			size++;
+			transition = rules.nextTransition(transition.getInstant());
+		}
+		this.transitions = Arrays.copyOf(utc, size);
+		this.offsets = Arrays.copyOf(offs, size + 1);
+		this.localThresholds = new long[size];
+		boolean monotonic = true;
+		for (int i = 0; i < size; i++) {
+			/*间隙时取变更后偏移为分界，重叠时取变更前偏移为分界，与atZone的取值规则一致*/
+			localThresholds[i] = transitions[i] + Math.max(offsets[i], offsets[i + 1]);
+			if (i > 0 && localThresholds[i] < localThresholds[i - 1]) {
+				monotonic = false;
+			}
+		}
+		this.localSearchable = monotonic;
+	}
+
+	/**
+	 * 当前默认时区的偏移表(仅一次volatile读)，默认时区的变更由{@link #systemDefault(long)}定期核对
+	 *
+	 * @return {@link ZoneOffsetTable}
+	 */
+	static ZoneOffsetTable systemDefault() {
+		ZoneOffsetTable table = systemDefault;
+		return table != null ? table : checkSystemDefault();
+	}
+
+	/**
+	 * 同{@link #systemDefault()}，距上次核对超过{@link #CHECK_INTERVAL}毫秒时先核对{@link ZoneId#systemDefault()}(该方法每次复制默认时区，故不逐次调用)
+	 *
+	 * @param nowMillis 调用方时钟的当前纪元毫秒
+	 * @return {@link ZoneOffsetTable}
+	 */
+	static ZoneOffsetTable systemDefault(long nowMillis) {
+		ZoneOffsetTable table = systemDefault;
+		if (table == null || Math.abs(nowMillis - lastCheck) >= CHECK_INTERVAL) {
+			lastCheck = nowMillis;
+			return checkSystemDefault();
+		}
+		return table;
+	}
+
+	private static ZoneOffsetTable checkSystemDefault() {
+		ZoneId zone = ZoneId.systemDefault();
+		ZoneOffsetTable table = systemDefault;
+		if (table == null || table.zone != zone && !table.zone.equals(zone)) {
+			systemDefault = table = new ZoneOffsetTable(zone);
+		}
+		return table;
+	}
+
+	/**
+	 * 默认时区变更后重新构建偏移表
+	 */
+	static void resetSystemDefault() {
+		systemDefault = null;
+	}
+
+	ZoneId zone() {
+		return zone;
+	}
+
+	/**
+	 * 纪元毫秒处的偏移
+	 *
+	 * @param epochMillis 纪元毫秒
+	 * @return 偏移毫秒数
+	 */
+	int offsetAtEpoch(long epochMillis) {
+		if (transitions.length == 0) {
+			return offsets[0];
+		}
+		if (epochMillis < COVER_FROM || epochMillis >= COVER_TO) {
+			return rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000;
+		}
+		return offsets[slot(transitions, epochMillis)];
+	}
+
+	/**
+	 * 本地毫秒处的偏移(间隙取变更前偏移，重叠取较早偏移)
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @return 偏移毫秒数
+	 */
+	int offsetAtLocal(long localMillis) {
+		if (transitions.length == 0) {
+			return offsets[0];
+		}
+		if (!localSearchable || localMillis < COVER_FROM || localMillis >= COVER_TO) {
+			LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), (int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+			return (int) (localMillis - ZonedDateTime.of(local, zone).toInstant().toEpochMilli());
+		}
+		return offsets[slot(localThresholds, localMillis)];
+	}
+
+	/**
+	 * 纪元毫秒转本地毫秒
+	 *
+	 * @param epochMillis 纪元毫秒
+	 * @return 本地纪元毫秒
+	 */
+	long toLocal(long epochMillis) {
+		return epochMillis + offsetAtEpoch(epochMillis);
+	}
+
+	/**
+	 * 本地毫秒转纪元毫秒
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @return 纪元毫秒
+	 */
+	long toEpoch(long localMillis) {
+		return localMillis - offsetAtLocal(localMillis);
+	}
+
+	/**
+	 * 纪元毫秒之后(不含)的第一个偏移变更点
+	 *
+	 * @param epochMillis 纪元毫秒
+	 * @return 变更点纪元毫秒，不存在时为{@link Long#MAX_VALUE}
+	 */
+	long nextTransition(long epochMillis) {
+		if (rules.isFixedOffset()) {
+			return Long.MAX_VALUE;
+		}
+		if (epochMillis >= COVER_FROM && epochMillis < COVER_TO) {
+			int next = slot(transitions, epochMillis);
+			if (next < transitions.length) {
+				return transitions[next];
+			}
+		}
+		ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(epochMillis));
+		return transition == null ? Long.MAX_VALUE : transition.toEpochSecond() * 1000;
+	}
+
+	/**
+	 * 本地毫秒转纪元毫秒，重叠时取较晚的偏移(与{@link java.util.GregorianCalendar}的宽松解析一致)，间隙时与{@link #toEpoch(long)}相同
+	 *
+	 * @param localMillis 本地纪元毫秒
+	 * @return 纪元毫秒
+	 */
+	long toEpochLater(long localMillis) {
+		long epoch = toEpoch(localMillis);
+		if (transitions.length == 0) {
+			return epoch;
+		}
+		int offset = offsetAtLocal(localMillis);
+		if (epoch < COVER_FROM || epoch >= COVER_TO) {
+			ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(epoch));
+			if (transition == null) {
+				return epoch;
+			}
+			int after = transition.getOffsetAfter().getTotalSeconds() * 1000;
+			long at = transition.toEpochSecond() * 1000;
+			return after < offset && localMillis >= at + after ? localMillis - after : epoch;
+		}
+		/*下一个变更点之后偏移减小且本地时间再次出现时，取变更后的偏移*/
+		int next = slot(transitions, epoch);
+		if (next < transitions.length && offsets[next + 1] < offset && localMillis >= transitions[next] + offsets[next + 1]) {
+			return localMillis - offsets[next + 1];
+		}
+		return epoch;
+	}
+
+	/**
+	 * 有序数组中不大于value的元素个数
+	 */
+	private static int slot(long[] sorted, long value) {
+		int low = 0;
+		int high = sorted.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] <= value) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+}
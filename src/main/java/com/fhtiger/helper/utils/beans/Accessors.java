@@ -0,0 +1,207 @@
+package com.fhtiger.helper.utils.beans;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Accessors
+ * 将读写方法与构造器编译为函数式接口实例
+ * <p>
+ * 优先使用{@link LambdaMetafactory}生成直接调用的实现，调用开销与手写代码相当；
+ * 无法生成时(如目标类所在模块未开放)退化为{@link MethodHandle}，仍不可访问时退化为反射调用。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 17:50
+ */
+final class Accessors {
+
+	private Accessors() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	/**
+	 * 编译读方法
+	 *
+	 * @param method 读方法(无参实例方法)
+	 * @return bean -&gt; value
+	 */
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object> getter(Method method) {
+		Class<?> owner = method.getDeclaringClass();
+		MethodHandles.Lookup lookup = lookup(owner);
+		if (lookup != null) {
+			try {
+				MethodHandle target = lookup.unreflect(method);
+				try {
+					CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class), target,
+							MethodType.methodType(wrap(method.getReturnType()), owner));
+					return (Function<Object, Object>) site.getTarget().invokeExact();
+				} catch (Throwable e) {
+					/*生成失败时直接调用方法句柄*/
+					final MethodHandle handle = target.asType(MethodType.methodType(Object.class, Object.class));
+					return bean -> {
+						try {
+							return handle.invokeExact(bean);
+						} catch (Throwable t) {
+							throw Accessors.<RuntimeException>sneaky(t);
+						}
+					};
+				}
+			} catch (IllegalAccessException e) {
+				/*退化为反射调用*/
+			}
+		}
+		return bean -> {
+			try {
+				return method.invoke(bean);
+			} catch (InvocationTargetException e) {
+				throw Accessors.<RuntimeException>sneaky(e.getCause());
+			} catch (IllegalAccessException e) {
+				throw Accessors.<RuntimeException>sneaky(e);
+			}
+		};
+	}
+
+	/**
+	 * 编译写方法
+	 *
+	 * @param method 写方法(单参实例方法)
+	 * @return (bean, value) -&gt; void
+	 */
+	@SuppressWarnings("unchecked")
+	static BiConsumer<Object, Object> setter(Method method) {
+		Class<?> owner = method.getDeclaringClass();
+		MethodHandles.Lookup lookup = lookup(owner);
+		if (lookup != null) {
+			try {
+				MethodHandle target = lookup.unreflect(method);
+				try {
+					CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class), MethodType.methodType(void.class, Object.class, Object.class), target,
+							MethodType.methodType(void.class, owner, wrap(method.getParameterTypes()[0])));
+					return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+				} catch (Throwable e) {
+					final MethodHandle handle = target.asType(MethodType.methodType(void.class, Object.class, Object.class));
+					return (bean, value) -> {
+						try {
+							handle.invokeExact(bean, value);
+						} catch (Throwable t) {
+							throw Accessors.<RuntimeException>sneaky(t);
+						}
+					};
+				}
+			} catch (IllegalAccessException e) {
+				/*退化为反射调用*/
+			}
+		}
+		return (bean, value) -> {
+			try {
+				method.invoke(bean, value);
+			} catch (InvocationTargetException e) {
+				throw Accessors.<RuntimeException>sneaky(e.getCause());
+			} catch (IllegalAccessException e) {
+				throw Accessors.<RuntimeException>sneaky(e);
+			}
+		};
+	}
+
+	/**
+	 * 编译无参构造器，保持{@link Constructor#newInstance(Object...)}的访问规则(不可访问时调用即抛出异常)
+	 *
+	 * @param constructor 无参构造器
+	 * @return 实例提供者
+	 */
+	@SuppressWarnings("unchecked")
+	static Supplier<Object> constructor(Constructor<?> constructor) {
+		Class<?> owner = constructor.getDeclaringClass();
+		MethodHandles.Lookup lookup = constructor.canAccess(null) ? lookup(owner) : null;
+		if (lookup != null) {
+			try {
+				MethodHandle target = lookup.unreflectConstructor(constructor);
+				CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class), MethodType.methodType(Object.class), target, MethodType.methodType(owner));
+				return (Supplier<Object>) site.getTarget().invokeExact();
+			} catch (Throwable e) {
+				/*退化为反射调用*/
+			}
+		}
+		return () -> {
+			try {
+				return constructor.newInstance();
+			} catch (InvocationTargetException e) {
+				throw Accessors.<RuntimeException>sneaky(e.getCause());
+			} catch (ReflectiveOperationException e) {
+				throw Accessors.<RuntimeException>sneaky(e);
+			}
+		};
+	}
+
+	/**
+	 * 编译带参构造器，参数以数组传入，访问规则同{@link #constructor(Constructor)}
+	 *
+	 * @param constructor 构造器
+	 * @return args -&gt; 新实例
+	 */
+	static Function<Object[], Object> creator(Constructor<?> constructor) {
+		Class<?> owner = constructor.getDeclaringClass();
+		MethodHandles.Lookup lookup = constructor.canAccess(null) ? lookup(owner) : null;
+		if (lookup != null) {
+			try {
+				final MethodHandle handle = lookup.unreflectConstructor(constructor)
+						.asSpreader(Object[].class, constructor.getParameterCount())
+						.asType(MethodType.methodType(Object.class, Object[].class));
+				return args -> {
+					try {
+						return handle.invokeExact(args);
+					} catch (Throwable t) {
+						throw Accessors.<RuntimeException>sneaky(t);
+					}
+				};
+			} catch (IllegalAccessException e) {
+				/*退化为反射调用*/
+			}
+		}
+		return args -> {
+			try {
+				return constructor.newInstance(args);
+			} catch (InvocationTargetException e) {
+				throw Accessors.<RuntimeException>sneaky(e.getCause());
+			} catch (ReflectiveOperationException e) {
+				throw Accessors.<RuntimeException>sneaky(e);
+			}
+		};
+	}
+
+	/**
+	 * 目标类的完全访问查找对象，目标类不可访问时为null
+	 */
+	private static MethodHandles.Lookup lookup(Class<?> owner) {
+		try {
+			return MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+		} catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return type;
+		}
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+	/**
+	 * 不包装地重新抛出受检异常，与直接调用方法时的异常一致
+	 */
+	@SuppressWarnings("unchecked")
+	static <E extends Throwable> E sneaky(Throwable e) throws E {
+		throw (E) e;
+	}
+}
@@ -0,0 +1,200 @@
+package com.fhtiger.helper.utils.beans;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * BeanMapView
+ * 以对象的可读属性为键的{@link Map}视图，不复制属性值，仅在取值时调用读方法
+ * <p>
+ * 键集合固定为可读属性，不支持删除；允许写入时{@link #put(String, Object)}调用对应属性的写方法，
+ * 否则抛出{@link UnsupportedOperationException}。
+ *
+ * @param <T> bean类型
+ * @author Chivenh
+ * @since 2026年10月18日 18:20
+ */
+@SuppressWarnings({ "unused" })
+
+public final class BeanMapView<T> extends AbstractMap<String, Object> {
+
+	private final BeanPlan<T> plan;
+
+	private final T bean;
+
+	private final boolean writeThrough;
+
+	private Set<Entry<String, Object>> entrySet;
+
+	BeanMapView(BeanPlan<T> plan, T bean, boolean writeThrough) {
+		this.plan = plan;
+		this.bean = bean;
+		this.writeThrough = writeThrough;
+	}
+
+	/**
+	 * @return 被访问的对象
+	 */
+	public T bean() {
+		return bean;
+	}
+
+	private BeanProperty readable(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		BeanProperty property = plan.property((String) key);
+		return property != null && property.readable() ? property : null;
+	}
+
+	@Override
+	public int size() {
+		return plan.readableProperties().length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return readable(key) != null;
+	}
+
+	@Override
+	public Object get(Object key) {
+		BeanProperty property = readable(key);
+		return property == null ? null : property.get(bean);
+	}
+
+	@Override
+	public Object getOrDefault(Object key, Object defaultValue) {
+		BeanProperty property = readable(key);
+		return property == null ? defaultValue : property.get(bean);
+	}
+
+	/**
+	 * 调用属性的写方法
+	 *
+	 * @param key   属性名
+	 * @param value 属性值
+	 * @return 写入前的属性值
+	 * @throws UnsupportedOperationException 视图不允许写入时
+	 * @throws IllegalArgumentException      属性不存在或不可写时
+	 */
+	@Override
+	public Object put(String key, Object value) {
+		if (!writeThrough) {
+			throw new UnsupportedOperationException("只读视图");
+		}
+		BeanProperty property = plan.property(key);
+		if (property == null || !property.writable()) {
+			throw new IllegalArgumentException(plan.type().getName() + " 没有可写属性:" + key);
+		}
+		Object previous = property.readable() ? property.get(bean) : null;
+		property.set(bean, value);
+		return previous;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		Set<Entry<String, Object>> entries = entrySet;
+		if (entries == null) {
+			entrySet = entries = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					return new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return BeanMapView.this.size();
+				}
+			};
+		}
+		return entries;
+	}
+
+	private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+		private final BeanProperty[] properties = plan.readableProperties();
+
+		private int index;
+
+		@Override
+		public boolean hasNext() {
+			return index < properties.length;
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+			if (index >= properties.length) {
+				throw new NoSuchElementException();
+			}
+			return new PropertyEntry(properties[index++]);
+		}
+	}
+
+	/**
+	 * 取值时才调用读方法的条目
+	 */
+	private final class PropertyEntry implements Entry<String, Object> {
+
+		private final BeanProperty property;
+
+		PropertyEntry(BeanProperty property) {
+			this.property = property;
+		}
+
+		@Override
+		public String getKey() {
+			return property.name();
+		}
+
+		@Override
+		public Object getValue() {
+			return property.get(bean);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			return put(property.name(), value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			Entry<?, ?> e = (Entry<?, ?>) o;
+			Object value = getValue();
+			return property.name().equals(e.getKey()) && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+		}
+
+		@Override
+		public int hashCode() {
+			Object value = getValue();
+			return property.name().hashCode() ^ (value == null ? 0 : value.hashCode());
+		}
+
+		@Override
+		public String toString() {
+			return property.name() + "=" + getValue();
+		}
+	}
+}
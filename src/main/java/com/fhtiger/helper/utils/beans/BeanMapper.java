@@ -0,0 +1,143 @@
+package com.fhtiger.helper.utils.beans;
+
+import com.fhtiger.helper.utils.helpful.SimpleRuntimeException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * BeanMapper
+ * bean与Map之间的转换及属性复制
+ * <p>
+ * 实现有两种：标注了{@link BeanMapping}的类在编译期生成的{@code 类名$$BeanMapper}，以及运行时内省得到的{@link BeanPlan}，两者规则一致。
+ * e.g. <br>BeanMapper.of(UserDTO.class).toMap(user);
+ *
+ * @param <T> bean类型
+ * @author Chivenh
+ * @since 2026年10月18日 20:10
+ */
+@SuppressWarnings({ "unused" })
+
+public interface BeanMapper<T> {
+
+	/**
+	 * 生成类的类名后缀
+	 */
+	String SUFFIX = "$$BeanMapper";
+
+	/**
+	 * 获取类的转换器(按类缓存)：存在编译期生成的转换器时使用之，否则使用{@link BeanPlan}
+	 *
+	 * @param type 类
+	 * @param <T>  bean类型
+	 * @return {@link BeanMapper}
+	 */
+	static <T> BeanMapper<T> of(Class<T> type) {
+		return BeanMappers.of(type);
+	}
+
+	/**
+	 * @return bean类型
+	 */
+	Class<T> type();
+
+	/**
+	 * 以无参构造器创建实例
+	 *
+	 * @return 新实例
+	 * @throws NoSuchMethodException 不存在无参构造器时
+	 */
+	T newInstance() throws NoSuchMethodException;
+
+	/**
+	 * 将源对象中非null的可读属性值写入目标对象的同名可写属性
+	 *
+	 * @param source 源对象
+	 * @param target 目标对象
+	 * @return 目标对象
+	 */
+	T copy(T source, T target);
+
+	/**
+	 * 将对象的全部可读属性(含值为null的属性)输出为Map
+	 *
+	 * @param bean 对象
+	 * @return 属性名-属性值
+	 */
+	Map<String, Object> toMap(T bean);
+
+	/**
+	 * 以Map中的值创建实例，Map中存在的每个可写属性均写入(值为null时同样写入)
+	 *
+	 * @param map 属性名-属性值
+	 * @return 新实例
+	 * @throws NoSuchMethodException 没有可用于创建实例的构造器时
+	 */
+	T fromMap(Map<String, ?> map) throws NoSuchMethodException;
+
+	/**
+	 * 批量以Map创建实例，规则同{@link #fromMap(Map)}
+	 * <p>
+	 * 默认逐行调用{@link #fromMap(Map)}，同一批次内每个键只转换一次；{@link BeanPlan}另有按键缓存解析结果的实现。
+	 *
+	 * @param rows      数据行
+	 * @param keyMapper 键到属性名的转换(如下划线转驼峰)，为null时键即属性名
+	 * @param parallel  是否并行转换
+	 * @return 与数据行一一对应的实例列表
+	 * @throws NoSuchMethodException 没有可用于创建实例的构造器时
+	 */
+	default List<T> fromMaps(List<? extends Map<String, ?>> rows, Function<String, String> keyMapper, boolean parallel) throws NoSuchMethodException {
+		Map<String, String> names = new ConcurrentHashMap<>();
+		Function<Map<String, ?>, Map<String, ?>> rename = keyMapper == null ? Function.identity() : row -> {
+			Map<String, Object> renamed = new HashMap<>(row.size() * 4 / 3 + 1);
+			row.forEach((key, value) -> renamed.put(key == null ? null : names.computeIfAbsent(key, keyMapper), value));
+			return renamed;
+		};
+		if (!parallel) {
+			List<T> list = new ArrayList<>(rows.size());
+			for (Map<String, ?> row : rows) {
+				list.add(fromMap(rename.apply(row)));
+			}
+			return list;
+		}
+		try {
+			return rows.parallelStream().map(row -> {
+				try {
+					return fromMap(rename.apply(row));
+				} catch (NoSuchMethodException e) {
+					throw new SimpleRuntimeException(e.getMessage(), e);
+				}
+			}).collect(Collectors.toCollection(ArrayList::new));
+		} catch (SimpleRuntimeException e) {
+			if (e.getCause() instanceof NoSuchMethodException) {
+				throw (NoSuchMethodException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 批量将对象输出为Map，规则同{@link #toMap(Object)}；元素为子类实例时使用其所属类的转换器，为null时对应位置为null
+	 *
+	 * @param beans    对象列表
+	 * @param parallel 是否并行转换
+	 * @return 与对象一一对应的Map列表
+	 */
+	@SuppressWarnings("unchecked")
+	default List<Map<String, Object>> toMaps(List<? extends T> beans, boolean parallel) {
+		Function<T, Map<String, Object>> convert = bean -> bean == null ? null : bean.getClass() == type() ? toMap(bean) : ((BeanMapper<Object>) of(bean.getClass())).toMap(bean);
+		if (!parallel) {
+			List<Map<String, Object>> list = new ArrayList<>(beans.size());
+			for (T bean : beans) {
+				list.add(convert.apply(bean));
+			}
+			return list;
+		}
+		return beans.parallelStream().map(convert).collect(Collectors.toCollection(ArrayList::new));
+	}
+}
@@ -0,0 +1,45 @@
+package com.fhtiger.helper.utils.beans;
+
+/**
+ * BeanMappers
+ * 按类查找并缓存{@link BeanMapper}：标注了{@link BeanMapping}的类按名称加载编译期生成的转换器，加载失败或未标注时使用{@link BeanPlan}
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 20:10
+ */
+final class BeanMappers {
+
+	private BeanMappers() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	private static final ClassValue<BeanMapper<?>> MAPPERS = new ClassValue<>() {
+		@Override
+		protected BeanMapper<?> computeValue(Class<?> type) {
+			BeanMapper<?> generated = generated(type);
+			return generated != null ? generated : BeanPlan.of(type);
+		}
+	};
+
+	@SuppressWarnings("unchecked")
+	static <T> BeanMapper<T> of(Class<T> type) {
+		return (BeanMapper<T>) MAPPERS.get(type);
+	}
+
+	private static BeanMapper<?> generated(Class<?> type) {
+		if (!type.isAnnotationPresent(BeanMapping.class)) {
+			return null;
+		}
+		try {
+			Class<?> mapperType = Class.forName(type.getName() + BeanMapper.SUFFIX, true, type.getClassLoader());
+			if (!BeanMapper.class.isAssignableFrom(mapperType)) {
+				return null;
+			}
+			BeanMapper<?> mapper = (BeanMapper<?>) mapperType.getConstructor().newInstance();
+			/*防止同名的无关类*/
+			return mapper.type() == type ? mapper : null;
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+}
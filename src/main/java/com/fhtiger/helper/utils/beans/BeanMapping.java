@@ -0,0 +1,22 @@
+package com.fhtiger.helper.utils.beans;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * BeanMapping
+ * 标记需要在编译期生成{@link BeanMapper}的类
+ * <p>
+ * 编译时由{@link com.fhtiger.helper.utils.beans.processor.BeanMappingProcessor}(需按其说明加入annotationProcessorPaths)在同一包中生成{@code 类名$$BeanMapper}，
+ * 以直接调用读写方法的代码完成复制与Map转换；运行时{@link BeanMapper#of(Class)}发现生成类后优先使用，否则回退到{@link BeanPlan}。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 20:10
+ */
+@SuppressWarnings({ "unused" })
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BeanMapping {
+}
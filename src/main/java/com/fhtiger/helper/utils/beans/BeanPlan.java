@@ -0,0 +1,520 @@
+package com.fhtiger.helper.utils.beans;
+
+import com.fhtiger.helper.utils.helpful.SimpleRuntimeException;
+
+import java.beans.ConstructorProperties;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * BeanPlan
+ * 类的属性访问计划：每个类只内省一次，读写方法与无参构造器编译为直接调用的访问器后按类缓存
+ * <p>
+ * 属性集合与{@link Introspector#getBeanInfo(Class)}一致(不含class属性)，顺序为属性名顺序；
+ * record类型的组件按声明顺序排在最前，作为只读属性。
+ * <p>
+ * 由Map创建实例时优先使用无参构造器并调用写方法；没有无参构造器时，
+ * 使用record的规范构造器或标注了{@link ConstructorProperties}的构造器。
+ * e.g. <br>BeanPlan.of(UserDTO.class).copy(source, target);
+ * <br>BeanPlan.of(UserDTO.class).fromMap(map);
+ * <p>
+ * 标注了{@link BeanMapping}的类在编译期生成转换器后，{@link BeanMapper#of(Class)}优先返回生成的转换器。
+ *
+ * @param <T> bean类型
+ * @author Chivenh
+ * @since 2026年10月18日 18:00
+ */
+@SuppressWarnings({ "unused" })
+
+public final class BeanPlan<T> implements BeanMapper<T> {
+
+	private static final ClassValue<BeanPlan<?>> PLANS = new ClassValue<>() {
+		@Override
+		protected BeanPlan<?> computeValue(Class<?> type) {
+			return new BeanPlan<>(type);
+		}
+	};
+
+	/**
+	 * 批量转换时启用并行的最小行数
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 12;
+
+	private final Class<T> type;
+
+	private final BeanProperty[] properties;
+
+	/**
+	 * 可读且可写的属性，复制时使用
+	 */
+	private final BeanProperty[] copyable;
+
+	private final BeanProperty[] readable;
+
+	private final BeanProperty[] writable;
+
+	/**
+	 * 容纳全部可读属性而不扩容的{@link HashMap}初始容量
+	 */
+	private final int mapCapacity;
+
+	private final Map<String, BeanProperty> byName;
+
+	/**
+	 * 无参构造器，不存在时为null
+	 */
+	private final Supplier<Object> constructor;
+
+	/**
+	 * 带参构造器(record规范构造器或{@link ConstructorProperties})，不存在时为null
+	 */
+	private final Function<Object[], Object> creator;
+
+	/**
+	 * 带参构造器各参数对应的属性名
+	 */
+	private final String[] creatorNames;
+
+	/**
+	 * 带参构造器各参数缺省时的取值(基本类型为0值，其余为null)
+	 */
+	private final Object[] creatorDefaults;
+
+	/**
+	 * 不由带参构造器赋值、需在构造后调用写方法的属性
+	 */
+	private final BeanProperty[] creatorSetters;
+
+	private BeanPlan(Class<T> type) {
+		this.type = type;
+		PropertyDescriptor[] descriptors;
+		try {
+			descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+		} catch (IntrospectionException e) {
+			throw new SimpleRuntimeException(type.getName() + " 内省失败:" + e.getMessage(), e);
+		}
+		List<BeanProperty> all = new ArrayList<>(descriptors.length);
+		List<BeanProperty> both = new ArrayList<>(descriptors.length);
+		RecordComponent[] components = type.isRecord() ? type.getRecordComponents() : null;
+		Set<String> seen = new HashSet<>();
+		if (components != null) {
+			for (RecordComponent component : components) {
+				all.add(new BeanProperty(component.getName(), component.getType(), Accessors.getter(component.getAccessor()), null));
+				seen.add(component.getName());
+			}
+		}
+		for (PropertyDescriptor pd : descriptors) {
+			if ("class".equalsIgnoreCase(pd.getName()) || pd.getPropertyType() == null || seen.contains(pd.getName())) {
+				continue;
+			}
+			Method read = pd.getReadMethod();
+			Method write = pd.getWriteMethod();
+			BeanProperty property = new BeanProperty(pd.getName(), pd.getPropertyType(), read == null ? null : Accessors.getter(read), write == null ? null : Accessors.setter(write));
+			all.add(property);
+			if (read != null && write != null) {
+				both.add(property);
+			}
+		}
+		this.properties = all.toArray(new BeanProperty[0]);
+		this.copyable = both.toArray(new BeanProperty[0]);
+		this.readable = all.stream().filter(BeanProperty::readable).toArray(BeanProperty[]::new);
+		this.writable = all.stream().filter(BeanProperty::writable).toArray(BeanProperty[]::new);
+		this.mapCapacity = (int) (readable.length / 0.75f) + 1;
+		Map<String, BeanProperty> names = new HashMap<>((int) (properties.length / 0.75f) + 1);
+		for (BeanProperty property : properties) {
+			names.put(property.name(), property);
+		}
+		this.byName = names;
+		this.constructor = noArgConstructor(type);
+
+		Constructor<?> withArgs = null;
+		String[] argNames = null;
+		if (constructor == null) {
+			if (components != null) {
+				withArgs = canonicalConstructor(type, components);
+				argNames = Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new);
+			} else {
+				for (Constructor<?> candidate : type.getConstructors()) {
+					ConstructorProperties declared = candidate.getAnnotation(ConstructorProperties.class);
+					if (declared != null && declared.value().length == candidate.getParameterCount() && (withArgs == null || candidate.getParameterCount() > withArgs.getParameterCount())) {
+						withArgs = candidate;
+						argNames = declared.value();
+					}
+				}
+			}
+		}
+		if (withArgs != null) {
+			Class<?>[] parameterTypes = withArgs.getParameterTypes();
+			Object[] defaults = new Object[parameterTypes.length];
+			for (int i = 0; i < parameterTypes.length; i++) {
+				defaults[i] = defaultValue(parameterTypes[i]);
+			}
+			List<String> argList = Arrays.asList(argNames);
+			this.creator = Accessors.creator(withArgs);
+			this.creatorNames = argNames;
+			this.creatorDefaults = defaults;
+			this.creatorSetters = Arrays.stream(writable).filter(p -> !argList.contains(p.name())).toArray(BeanProperty[]::new);
+		} else {
+			this.creator = null;
+			this.creatorNames = null;
+			this.creatorDefaults = null;
+			this.creatorSetters = null;
+		}
+	}
+
+	private static Supplier<Object> noArgConstructor(Class<?> type) {
+		try {
+			Constructor<?> constructor = type.getDeclaredConstructor();
+			return Accessors.constructor(constructor);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static Constructor<?> canonicalConstructor(Class<?> type, RecordComponent[] components) {
+		Class<?>[] parameterTypes = new Class<?>[components.length];
+		for (int i = 0; i < components.length; i++) {
+			parameterTypes[i] = components[i].getType();
+		}
+		try {
+			return type.getDeclaredConstructor(parameterTypes);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		return type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
+	}
+
+	/**
+	 * 获取类的访问计划(按类缓存)
+	 *
+	 * @param type 类
+	 * @param <T>  bean类型
+	 * @return {@link BeanPlan}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> BeanPlan<T> of(Class<T> type) {
+		return (BeanPlan<T>) PLANS.get(type);
+	}
+
+	@Override
+	public Class<T> type() {
+		return type;
+	}
+
+	/**
+	 * @return 全部属性(不可修改)
+	 */
+	public List<BeanProperty> properties() {
+		return Collections.unmodifiableList(Arrays.asList(properties));
+	}
+
+	/**
+	 * 按属性名获取属性
+	 *
+	 * @param name 属性名
+	 * @return {@link BeanProperty}，不存在时为null
+	 */
+	public BeanProperty property(String name) {
+		return byName.get(name);
+	}
+
+	/**
+	 * 以无参构造器创建实例，规则与{@link Constructor#newInstance(Object...)}一致
+	 *
+	 * @return 新实例
+	 * @throws NoSuchMethodException 不存在无参构造器时
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T newInstance() throws NoSuchMethodException {
+		if (constructor == null) {
+			throw new NoSuchMethodException(type.getName() + ".<init>()");
+		}
+		return (T) constructor.get();
+	}
+
+	/**
+	 * 可读属性(内部数组，不可修改)
+	 */
+	BeanProperty[] readableProperties() {
+		return readable;
+	}
+
+	/**
+	 * 以Map的形式只读访问对象，仅在取值时调用读方法
+	 *
+	 * @param bean 对象
+	 * @return {@link BeanMapView}
+	 */
+	public BeanMapView<T> view(T bean) {
+		return new BeanMapView<>(this, bean, false);
+	}
+
+	/**
+	 * 以Map的形式访问对象，仅在取值时调用读方法
+	 *
+	 * @param bean         对象
+	 * @param writeThrough 是否允许{@link Map#put(Object, Object)}调用写方法
+	 * @return {@link BeanMapView}
+	 */
+	public BeanMapView<T> view(T bean, boolean writeThrough) {
+		return new BeanMapView<>(this, bean, writeThrough);
+	}
+
+	/**
+	 * 将对象的全部可读属性(含值为null的属性)输出为Map
+	 *
+	 * @param bean 对象
+	 * @return {@link HashMap} 属性名-属性值，容量按属性个数预先分配
+	 */
+	@Override
+	public Map<String, Object> toMap(T bean) {
+		Map<String, Object> map = new HashMap<>(mapCapacity);
+		for (BeanProperty property : readable) {
+			map.put(property.name(), property.get(bean));
+		}
+		return map;
+	}
+
+	/**
+	 * 以Map中的值创建实例
+	 * <p>
+	 * 有无参构造器时，对Map中存在的每个可写属性调用写方法(值为null时同样写入)；
+	 * 否则以record规范构造器或{@link ConstructorProperties}构造器创建，Map中缺少的参数取null或基本类型的0值，
+	 * 其余可写属性随后按写方法写入。
+	 *
+	 * @param map 属性名-属性值
+	 * @return 新实例
+	 * @throws NoSuchMethodException 没有可用于创建实例的构造器时
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T fromMap(Map<String, ?> map) throws NoSuchMethodException {
+		if (constructor != null) {
+			Object bean = constructor.get();
+			for (BeanProperty property : writable) {
+				if (map.containsKey(property.name())) {
+					property.set(bean, map.get(property.name()));
+				}
+			}
+			return (T) bean;
+		}
+		if (creator == null) {
+			throw new NoSuchMethodException(type.getName() + ".<init>()");
+		}
+		Object[] args = new Object[creatorNames.length];
+		for (int i = 0; i < args.length; i++) {
+			Object value = map.get(creatorNames[i]);
+			args[i] = value == null ? creatorDefaults[i] : value;
+		}
+		Object bean = creator.apply(args);
+		for (BeanProperty property : creatorSetters) {
+			if (map.containsKey(property.name())) {
+				property.set(bean, map.get(property.name()));
+			}
+		}
+		return (T) bean;
+	}
+
+	/**
+	 * 批量以Map创建实例，规则同{@link #fromMap(Map)}
+	 * <p>
+	 * 同一批次内每个键只解析一次，结果按键缓存，逐行仅按键查找已解析的属性或构造参数位置。
+	 *
+	 * @param rows      数据行
+	 * @param keyMapper 键到属性名的转换(如下划线转驼峰)，为null时键即属性名
+	 * @param parallel  是否在行数较多时并行转换
+	 * @return 与数据行一一对应的实例列表
+	 * @throws NoSuchMethodException 没有可用于创建实例的构造器时
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<T> fromMaps(List<? extends Map<String, ?>> rows, Function<String, String> keyMapper, boolean parallel) throws NoSuchMethodException {
+		if (constructor == null && creator == null) {
+			throw new NoSuchMethodException(type.getName() + ".<init>()");
+		}
+		int size = rows.size();
+		if (parallel && size >= PARALLEL_THRESHOLD) {
+			KeyIndex index = new KeyIndex(keyMapper, new ConcurrentHashMap<>());
+			Object[] source = rows.toArray();
+			Object[] target = new Object[source.length];
+			IntStream.range(0, source.length).parallel().forEach(i -> target[i] = index.convert((Map<String, ?>) source[i]));
+			return (List<T>) new ArrayList<>(Arrays.asList(target));
+		}
+		KeyIndex index = new KeyIndex(keyMapper, new HashMap<>());
+		List<T> list = new ArrayList<>(size);
+		for (Map<String, ?> row : rows) {
+			list.add((T) index.convert(row));
+		}
+		return list;
+	}
+
+	/**
+	 * 批量将对象输出为Map，规则同{@link #toMap(Object)}；元素为子类实例时使用其所属类的计划，为null时对应位置为null
+	 *
+	 * @param beans    对象列表
+	 * @param parallel 是否在元素较多时并行转换
+	 * @return 与对象一一对应的Map列表
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<Map<String, Object>> toMaps(List<? extends T> beans, boolean parallel) {
+		int size = beans.size();
+		if (parallel && size >= PARALLEL_THRESHOLD) {
+			Object[] source = beans.toArray();
+			Object[] target = new Object[source.length];
+			IntStream.range(0, source.length).parallel().forEach(i -> target[i] = source[i] == null ? null : planOf(source[i]).toMap(source[i]));
+			return (List<Map<String, Object>>) (List<?>) new ArrayList<>(Arrays.asList(target));
+		}
+		List<Map<String, Object>> list = new ArrayList<>(size);
+		for (T bean : beans) {
+			list.add(bean == null ? null : planOf(bean).toMap(bean));
+		}
+		return list;
+	}
+
+	@SuppressWarnings("unchecked")
+	private BeanPlan<Object> planOf(Object bean) {
+		return (BeanPlan<Object>) (bean.getClass() == type ? this : of(bean.getClass()));
+	}
+
+	/**
+	 * 将源对象中非null的可读属性值写入目标对象的同名可写属性
+	 *
+	 * @param source 源对象
+	 * @param target 目标对象
+	 * @return 目标对象
+	 */
+	@Override
+	public T copy(T source, T target) {
+		for (BeanProperty property : copyable) {
+			Object value = property.get(source);
+			if (value != null) {
+				property.set(target, value);
+			}
+		}
+		return target;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanPlan[" + type.getName() + ", " + Arrays.toString(properties) + "]";
+	}
+
+	/**
+	 * 单个批次的键索引：键到属性或构造参数位置的映射在首次遇到该键时解析
+	 */
+	private final class KeyIndex {
+
+		private final Function<String, String> keyMapper;
+
+		private final Map<String, Slot> slots;
+
+		KeyIndex(Function<String, String> keyMapper, Map<String, Slot> slots) {
+			this.keyMapper = keyMapper;
+			this.slots = slots;
+		}
+
+		private Slot slot(String key) {
+			if (key == null) {
+				return Slot.NONE;
+			}
+			Slot slot = slots.get(key);
+			if (slot == null) {
+				slot = resolve(keyMapper == null ? key : keyMapper.apply(key));
+				slots.put(key, slot);
+			}
+			return slot;
+		}
+
+		private Slot resolve(String name) {
+			BeanProperty property = name == null ? null : byName.get(name);
+			if (constructor != null) {
+				return property != null && property.writable() ? new Slot(property, -1) : Slot.NONE;
+			}
+			for (int i = 0; i < creatorNames.length; i++) {
+				if (creatorNames[i].equals(name)) {
+					return new Slot(null, i);
+				}
+			}
+			for (BeanProperty setter : creatorSetters) {
+				if (setter == property) {
+					return new Slot(property, -1);
+				}
+			}
+			return Slot.NONE;
+		}
+
+		Object convert(Map<String, ?> row) {
+			if (constructor != null) {
+				Object bean = constructor.get();
+				for (Map.Entry<String, ?> entry : row.entrySet()) {
+					BeanProperty setter = slot(entry.getKey()).setter;
+					if (setter != null) {
+						setter.set(bean, entry.getValue());
+					}
+				}
+				return bean;
+			}
+			Object[] args = creatorDefaults.clone();
+			boolean setters = false;
+			for (Map.Entry<String, ?> entry : row.entrySet()) {
+				Slot slot = slot(entry.getKey());
+				if (slot.arg >= 0) {
+					if (entry.getValue() != null) {
+						args[slot.arg] = entry.getValue();
+					}
+				} else if (slot.setter != null) {
+					setters = true;
+				}
+			}
+			Object bean = creator.apply(args);
+			if (setters) {
+				for (Map.Entry<String, ?> entry : row.entrySet()) {
+					BeanProperty setter = slot(entry.getKey()).setter;
+					if (setter != null) {
+						setter.set(bean, entry.getValue());
+					}
+				}
+			}
+			return bean;
+		}
+	}
+
+	/**
+	 * 键的解析结果：写方法或构造参数位置
+	 */
+	private static final class Slot {
+
+		static final Slot NONE = new Slot(null, -1);
+
+		final BeanProperty setter;
+
+		final int arg;
+
+		Slot(BeanProperty setter, int arg) {
+			this.setter = setter;
+			this.arg = arg;
+		}
+	}
+}
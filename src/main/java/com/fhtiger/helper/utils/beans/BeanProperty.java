@@ -0,0 +1,83 @@
+package com.fhtiger.helper.utils.beans;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * BeanProperty
+ * 已编译的bean属性，读写直接调用生成的访问器
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 17:55
+ */
+@SuppressWarnings({ "unused" })
+
+public final class BeanProperty {
+
+	private final String name;
+
+	private final Class<?> type;
+
+	private final Function<Object, Object> getter;
+
+	private final BiConsumer<Object, Object> setter;
+
+	BeanProperty(String name, Class<?> type, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+		this.name = name;
+		this.type = type;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * @return 属性类型
+	 */
+	public Class<?> type() {
+		return type;
+	}
+
+	public boolean readable() {
+		return getter != null;
+	}
+
+	public boolean writable() {
+		return setter != null;
+	}
+
+	/**
+	 * 读取属性值
+	 *
+	 * @param bean 对象
+	 * @return 属性值
+	 * @throws UnsupportedOperationException 属性不可读时
+	 */
+	public Object get(Object bean) {
+		if (getter == null) {
+			throw new UnsupportedOperationException(name + " 不可读");
+		}
+		return getter.apply(bean);
+	}
+
+	/**
+	 * 写入属性值
+	 *
+	 * @param bean  对象
+	 * @param value 属性值
+	 * @throws UnsupportedOperationException 属性不可写时
+	 */
+	public void set(Object bean, Object value) {
+		if (setter == null) {
+			throw new UnsupportedOperationException(name + " 不可写");
+		}
+		setter.accept(bean, value);
+	}
+
+	@Override
+	public String toString() {
+		return name + ":" + type.getName() + (readable() ? "[r" : "[") + (writable() ? "w]" : "]");
+	}
+}
@@ -0,0 +1,557 @@
+package com.fhtiger.helper.utils.beans;
+
+import com.fhtiger.helper.utils.helpful.SimpleRuntimeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * DeepCloner
+ * 按类缓存复制计划的结构化深克隆，不经过序列化
+ * <p>
+ * <ul>
+ *     <li>同一对象在结果中只复制一次，保持原对象图中的共享引用与循环引用；</li>
+ *     <li>不可变类型(字符串、包装类型、BigInteger/BigDecimal、java.time、枚举、仅由不可变类型组成的record等)直接共享；</li>
+ *     <li>基本类型数组以{@link System#arraycopy(Object, int, Object, int, int)}复制，对象数组逐元素深克隆；</li>
+ *     <li>常用集合(ArrayList、HashMap、TreeMap等)按原类型重建，TreeMap/TreeSet的比较器共享；Date、Calendar调用其clone方法；</li>
+ *     <li>其它类逐字段复制(不调用构造器)，与序列化一致，transient字段保持默认值；</li>
+ *     <li>带有序列化钩子(writeObject/readResolve等)或依赖JDK内部状态的类型退化为序列化复制。</li>
+ * </ul>
+ * 与序列化不同，未实现{@link Serializable}的类同样可以逐字段复制；lambda等隐藏类实例直接共享。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 18:40
+ */
+@SuppressWarnings({ "unused" })
+
+public final class DeepCloner {
+
+	private DeepCloner() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	/**
+	 * 不调用构造器创建实例的工厂(sun.reflect.ReflectionFactory)，不可用时为null
+	 */
+	private static final Object REFLECTION_FACTORY;
+
+	private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+
+	static {
+		Object factory = null;
+		Method method = null;
+		try {
+			Class<?> type = Class.forName("sun.reflect.ReflectionFactory");
+			factory = type.getMethod("getReflectionFactory").invoke(null);
+			method = type.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			factory = null;
+			method = null;
+		}
+		REFLECTION_FACTORY = factory;
+		NEW_CONSTRUCTOR_FOR_SERIALIZATION = method;
+	}
+
+	/**
+	 * 直接共享的不可变类型
+	 */
+	private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+			Double.class, BigInteger.class, BigDecimal.class, Class.class, UUID.class, Locale.class, Currency.class, Pattern.class, URI.class);
+
+	/**
+	 * 构造中的record的占位，再次遇到即存在经由record的循环引用
+	 */
+	private static final Object IN_PROGRESS = new Object();
+
+	private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+		@Override
+		protected Plan computeValue(Class<?> type) {
+			return planOf(type);
+		}
+	};
+
+	/**
+	 * 深克隆对象
+	 *
+	 * @param obj 对象
+	 * @param <T> 对象类型
+	 * @return 克隆结果
+	 * @throws SimpleRuntimeException 对象图中存在既无法逐字段复制、也无法序列化的对象时
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T copy(T obj) {
+		return (T) copyValue(obj, new IdentityHashMap<>());
+	}
+
+	private static Object copyValue(Object value, IdentityHashMap<Object, Object> copies) {
+		if (value == null) {
+			return null;
+		}
+		Plan plan = PLANS.get(value.getClass());
+		if (plan == Share.INSTANCE) {
+			return value;
+		}
+		Object copied = copies.get(value);
+		if (copied != null) {
+			if (copied == IN_PROGRESS) {
+				throw new SimpleRuntimeException(value.getClass().getName() + " 存在经由record的循环引用");
+			}
+			return copied;
+		}
+		return plan.copy(value, copies);
+	}
+
+	private static Plan planOf(Class<?> type) {
+		if (type.isArray()) {
+			return type.getComponentType().isPrimitive() ? new PrimitiveArray(type.getComponentType()) : ObjectArray.INSTANCE;
+		}
+		if (type.isPrimitive() || type.isHidden() || Enum.class.isAssignableFrom(type) || IMMUTABLE_TYPES.contains(type) || type.getPackageName().startsWith("java.time")) {
+			return Share.INSTANCE;
+		}
+		if (type.isRecord()) {
+			return immutable(type, new HashSet<>()) ? Share.INSTANCE : new RecordPlan(type);
+		}
+		Plan builtin = builtin(type);
+		if (builtin != null) {
+			return builtin;
+		}
+		if (isPlatform(type) || hasSerializationHooks(type)) {
+			return SerialPlan.INSTANCE;
+		}
+		Plan fields = FieldsPlan.of(type);
+		return fields == null ? SerialPlan.INSTANCE : fields;
+	}
+
+	/**
+	 * 类型的全部实例是否不可变：基本类型、final的共享类型、枚举或组件均不可变的record
+	 */
+	private static boolean immutable(Class<?> type, Set<Class<?>> visiting) {
+		if (type.isPrimitive() || type.isEnum()) {
+			return true;
+		}
+		if (type.isRecord()) {
+			if (!visiting.add(type)) {
+				return true;
+			}
+			for (RecordComponent component : type.getRecordComponents()) {
+				if (!immutable(component.getType(), visiting)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return Modifier.isFinal(type.getModifiers()) && (IMMUTABLE_TYPES.contains(type) || type.getPackageName().startsWith("java.time"));
+	}
+
+	private static Plan builtin(Class<?> type) {
+		if (type == Object.class) {
+			return (src, copies) -> {
+				Object copied = new Object();
+				copies.put(src, copied);
+				return copied;
+			};
+		}
+		if (type == ArrayList.class) {
+			return new CollectionPlan(ArrayList::new);
+		}
+		if (type == LinkedList.class) {
+			return new CollectionPlan(size -> new LinkedList<>());
+		}
+		if (type == ArrayDeque.class) {
+			return new CollectionPlan(ArrayDeque::new);
+		}
+		if (type == HashSet.class) {
+			return new CollectionPlan(size -> new HashSet<>((int) (size / 0.75f) + 1));
+		}
+		if (type == LinkedHashSet.class) {
+			return new CollectionPlan(size -> new LinkedHashSet<>((int) (size / 0.75f) + 1));
+		}
+		if (type == TreeSet.class) {
+			return new SortedCollectionPlan();
+		}
+		if (type == HashMap.class) {
+			return new MapPlan(size -> new HashMap<>((int) (size / 0.75f) + 1));
+		}
+		if (type == LinkedHashMap.class) {
+			return new MapPlan(size -> new LinkedHashMap<>((int) (size / 0.75f) + 1));
+		}
+		if (type == ConcurrentHashMap.class) {
+			return new MapPlan(size -> new ConcurrentHashMap<>((int) (size / 0.75f) + 1));
+		}
+		if (type == TreeMap.class) {
+			return new SortedMapPlan();
+		}
+		if (Date.class.isAssignableFrom(type) && isPlatform(type)) {
+			return (src, copies) -> {
+				Object copied = ((Date) src).clone();
+				copies.put(src, copied);
+				return copied;
+			};
+		}
+		if (Calendar.class.isAssignableFrom(type) && isPlatform(type)) {
+			return (src, copies) -> {
+				Object copied = ((Calendar) src).clone();
+				copies.put(src, copied);
+				return copied;
+			};
+		}
+		return null;
+	}
+
+	private static boolean isPlatform(Class<?> type) {
+		String name = type.getName();
+		return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.") || name.startsWith("com.sun.");
+	}
+
+	/**
+	 * 是否有自定义序列化逻辑，逐字段复制无法与之等价
+	 */
+	private static boolean hasSerializationHooks(Class<?> type) {
+		if (!Serializable.class.isAssignableFrom(type)) {
+			return false;
+		}
+		if (Externalizable.class.isAssignableFrom(type)) {
+			return true;
+		}
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Method method : c.getDeclaredMethods()) {
+				String name = method.getName();
+				if (!Modifier.isStatic(method.getModifiers()) && ("writeReplace".equals(name) || "readResolve".equals(name)
+						|| method.getParameterCount() == 1 && ("writeObject".equals(name) || "readObject".equals(name)) || "readObjectNoData".equals(name))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 以序列化复制(逐字段复制不可用时)
+	 */
+	private static Object serialCopy(Object src) {
+		if (!(src instanceof Serializable)) {
+			throw new SimpleRuntimeException(src.getClass().getName() + " 既不能逐字段复制也不能序列化,深克隆失败!");
+		}
+		try {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+				oos.writeObject(src);
+			}
+			try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+				return ois.readObject();
+			}
+		} catch (IOException | ClassNotFoundException e) {
+			throw new SimpleRuntimeException(src.getClass().getName() + " 序列化复制失败!" + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 单个类的复制计划
+	 */
+	@FunctionalInterface
+	private interface Plan {
+
+		/**
+		 * 复制对象，需在复制其引用的对象之前将结果登记到copies中
+		 *
+		 * @param src    源对象
+		 * @param copies 源对象-复制结果
+		 * @return 复制结果
+		 */
+		Object copy(Object src, IdentityHashMap<Object, Object> copies);
+	}
+
+	private static final class Share implements Plan {
+
+		static final Share INSTANCE = new Share();
+
+		@Override
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			return src;
+		}
+	}
+
+	private static final class SerialPlan implements Plan {
+
+		static final SerialPlan INSTANCE = new SerialPlan();
+
+		@Override
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			Object copied = serialCopy(src);
+			copies.put(src, copied);
+			return copied;
+		}
+	}
+
+	private static final class PrimitiveArray implements Plan {
+
+		private final Class<?> componentType;
+
+		PrimitiveArray(Class<?> componentType) {
+			this.componentType = componentType;
+		}
+
+		@Override
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			int length = Array.getLength(src);
+			Object copied = Array.newInstance(componentType, length);
+			System.arraycopy(src, 0, copied, 0, length);
+			copies.put(src, copied);
+			return copied;
+		}
+	}
+
+	private static final class ObjectArray implements Plan {
+
+		static final ObjectArray INSTANCE = new ObjectArray();
+
+		@Override
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			Object[] source = (Object[]) src;
+			Object[] copied = source.clone();
+			copies.put(src, copied);
+			for (int i = 0; i < copied.length; i++) {
+				copied[i] = copyValue(copied[i], copies);
+			}
+			return copied;
+		}
+	}
+
+	private static final class CollectionPlan implements Plan {
+
+		private final IntFunction<Collection<Object>> factory;
+
+		CollectionPlan(IntFunction<Collection<Object>> factory) {
+			this.factory = factory;
+		}
+
+		@Override
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			Collection<?> source = (Collection<?>) src;
+			Collection<Object> copied = factory.apply(source.size());
+			copies.put(src, copied);
+			for (Object element : source) {
+				copied.add(copyValue(element, copies));
+			}
+			return copied;
+		}
+	}
+
+	private static final class SortedCollectionPlan implements Plan {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			TreeSet<Object> source = (TreeSet<Object>) src;
+			TreeSet<Object> copied = new TreeSet<>(source.comparator());
+			copies.put(src, copied);
+			for (Object element : source) {
+				copied.add(copyValue(element, copies));
+			}
+			return copied;
+		}
+	}
+
+	private static final class MapPlan implements Plan {
+
+		private final IntFunction<Map<Object, Object>> factory;
+
+		MapPlan(IntFunction<Map<Object, Object>> factory) {
+			this.factory = factory;
+		}
+
+		@Override
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			Map<?, ?> source = (Map<?, ?>) src;
+			Map<Object, Object> copied = factory.apply(source.size());
+			copies.put(src, copied);
+			for (Map.Entry<?, ?> entry : source.entrySet()) {
+				copied.put(copyValue(entry.getKey(), copies), copyValue(entry.getValue(), copies));
+			}
+			return copied;
+		}
+	}
+
+	private static final class SortedMapPlan implements Plan {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			TreeMap<Object, Object> source = (TreeMap<Object, Object>) src;
+			TreeMap<Object, Object> copied = new TreeMap<>(source.comparator());
+			copies.put(src, copied);
+			for (Map.Entry<Object, Object> entry : source.entrySet()) {
+				copied.put(copyValue(entry.getKey(), copies), copyValue(entry.getValue(), copies));
+			}
+			return copied;
+		}
+	}
+
+	/**
+	 * record：复制各组件后调用规范构造器
+	 */
+	private static final class RecordPlan implements Plan {
+
+		private final Function<Object, Object>[] accessors;
+
+		private final Function<Object[], Object> creator;
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		RecordPlan(Class<?> type) {
+			RecordComponent[] components = type.getRecordComponents();
+			Class<?>[] parameterTypes = new Class<?>[components.length];
+			accessors = new Function[components.length];
+			for (int i = 0; i < components.length; i++) {
+				parameterTypes[i] = components[i].getType();
+				accessors[i] = Accessors.getter(components[i].getAccessor());
+			}
+			try {
+				Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+				canonical.setAccessible(true);
+				creator = Accessors.creator(canonical);
+			} catch (NoSuchMethodException | RuntimeException e) {
+				throw new SimpleRuntimeException(type.getName() + " 没有可用的规范构造器", e);
+			}
+		}
+
+		@Override
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			copies.put(src, IN_PROGRESS);
+			Object[] args = new Object[accessors.length];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = copyValue(accessors[i].apply(src), copies);
+			}
+			Object copied = creator.apply(args);
+			copies.put(src, copied);
+			return copied;
+		}
+	}
+
+	/**
+	 * 逐字段复制：不调用构造器创建实例，再复制全部非static、非transient字段
+	 */
+	private static final class FieldsPlan implements Plan {
+
+		private final Supplier<Object> instantiator;
+
+		private final MethodHandle[] getters;
+
+		private final MethodHandle[] setters;
+
+		private final boolean[] primitive;
+
+		private FieldsPlan(Supplier<Object> instantiator, List<Field> fields) throws IllegalAccessException {
+			this.instantiator = instantiator;
+			int size = fields.size();
+			this.getters = new MethodHandle[size];
+			this.setters = new MethodHandle[size];
+			this.primitive = new boolean[size];
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			for (int i = 0; i < size; i++) {
+				Field field = fields.get(i);
+				getters[i] = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+				setters[i] = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+				primitive[i] = field.getType().isPrimitive();
+			}
+		}
+
+		/**
+		 * @return 计划，无法不调用构造器创建实例或字段不可访问时为null
+		 */
+		static FieldsPlan of(Class<?> type) {
+			if (Modifier.isAbstract(type.getModifiers()) || NEW_CONSTRUCTOR_FOR_SERIALIZATION == null) {
+				return null;
+			}
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers)) {
+						continue;
+					}
+					if (isPlatform(c)) {
+						/*JDK父类的实例状态无法逐字段复制*/
+						return null;
+					}
+					if (!Modifier.isTransient(modifiers)) {
+						fields.add(field);
+					}
+				}
+			}
+			try {
+				Constructor<?> constructor = (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(REFLECTION_FACTORY, type, Object.class.getDeclaredConstructor());
+				constructor.setAccessible(true);
+				for (Field field : fields) {
+					field.setAccessible(true);
+				}
+				return new FieldsPlan(() -> {
+					try {
+						return constructor.newInstance();
+					} catch (ReflectiveOperationException e) {
+						throw new SimpleRuntimeException(type.getName() + " 创建实例失败!" + e.getMessage(), e);
+					}
+				}, fields);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return null;
+			}
+		}
+
+		@Override
+		public Object copy(Object src, IdentityHashMap<Object, Object> copies) {
+			Object copied = instantiator.get();
+			copies.put(src, copied);
+			try {
+				for (int i = 0; i < getters.length; i++) {
+					Object value = (Object) getters[i].invokeExact(src);
+					setters[i].invokeExact(copied, primitive[i] ? value : copyValue(value, copies));
+				}
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new SimpleRuntimeException(e);
+			}
+			return copied;
+		}
+	}
+}
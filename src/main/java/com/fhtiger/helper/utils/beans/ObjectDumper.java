@@ -0,0 +1,339 @@
+package com.fhtiger.helper.utils.beans;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ObjectDumper
+ * 反射输出对象的全部字段，直接写入{@link Appendable}
+ * <p>
+ * 格式与SpecialUtil.toString一致：{@code 类名{[字段 = 值,\n字段 = 值][父类字段...]}}，没有实例字段的类层级不输出；
+ * 数组输出为{@code 元素类型[]{值,值}}，字符串原样输出。
+ * 字段读取器按类缓存；对象在展开自身的过程中再次出现(循环引用)时输出"..."，共享而不构成循环的引用在每处完整输出；
+ * 超出深度的对象输出"..."，超出长度时截断并以"..."结尾。
+ * 字段不可访问的JDK类型输出其toString()，其中的集合与Map按元素逐个输出。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 19:00
+ */
+@SuppressWarnings({ "unused" })
+
+public final class ObjectDumper {
+
+	private ObjectDumper() throws IllegalAccessException {
+		throw new IllegalAccessException("The util-class do not need to be instantiated");
+	}
+
+	private static final String ELLIPSIS = "...";
+
+	private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+		@Override
+		protected Layout computeValue(Class<?> type) {
+			return Layout.of(type);
+		}
+	};
+
+	/**
+	 * 输出对象，不限深度与长度
+	 *
+	 * @param obj 对象
+	 * @return 字符串，obj为null时为"null"
+	 */
+	public static String dump(Object obj) {
+		return dump(obj, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 输出对象
+	 *
+	 * @param obj       对象
+	 * @param maxDepth  最大展开深度(顶层对象为第1层)
+	 * @param maxLength 最大输出字符数(不含截断后追加的"...")
+	 * @return 字符串，obj为null时为"null"
+	 */
+	public static String dump(Object obj, int maxDepth, int maxLength) {
+		StringBuilder out = new StringBuilder();
+		try {
+			dump(obj, out, maxDepth, maxLength);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toString();
+	}
+
+	/**
+	 * 输出对象到{@link Appendable}
+	 *
+	 * @param obj       对象
+	 * @param out       输出目标
+	 * @param maxDepth  最大展开深度(顶层对象为第1层)
+	 * @param maxLength 最大输出字符数(不含截断后追加的"...")
+	 * @throws IOException 写入失败时
+	 */
+	public static void dump(Object obj, Appendable out, int maxDepth, int maxLength) throws IOException {
+		Limited limited = new Limited(out, maxLength);
+		try {
+			new Walker(limited, maxDepth).value(obj, 1);
+		} catch (Truncated e) {
+			out.append(ELLIPSIS);
+		}
+	}
+
+	/**
+	 * 单次输出的状态
+	 */
+	private static final class Walker {
+
+		private final Limited out;
+
+		private final int maxDepth;
+
+		/**
+		 * 当前展开路径上的对象，用于识别循环引用
+		 */
+		private final IdentityHashMap<Object, Boolean> path = new IdentityHashMap<>();
+
+		Walker(Limited out, int maxDepth) {
+			this.out = out;
+			this.maxDepth = maxDepth;
+		}
+
+		void value(Object obj, int depth) throws IOException {
+			if (obj == null) {
+				out.append("null");
+				return;
+			}
+			Class<?> type = obj.getClass();
+			if (type == String.class) {
+				out.append((String) obj);
+				return;
+			}
+			Layout layout = type.isArray() ? null : LAYOUTS.get(type);
+			boolean opaque = layout != null && layout.opaque;
+			if (opaque && !(obj instanceof Collection) && !(obj instanceof Map)) {
+				out.append(String.valueOf(obj));
+				return;
+			}
+			if (depth > maxDepth || path.put(obj, Boolean.TRUE) != null) {
+				out.append(ELLIPSIS);
+				return;
+			}
+			if (layout == null) {
+				array(obj, type.getComponentType(), depth);
+			} else if (!opaque) {
+				fields(obj, layout, depth);
+			} else if (obj instanceof Collection) {
+				collection((Collection<?>) obj, depth);
+			} else {
+				map((Map<?, ?>) obj, depth);
+			}
+			/*仅跟踪当前路径：共享但不构成循环的引用在各处完整输出*/
+			path.remove(obj);
+		}
+
+		private void array(Object array, Class<?> componentType, int depth) throws IOException {
+			out.append(String.valueOf(componentType)).append("[]{");
+			int length = Array.getLength(array);
+			for (int i = 0; i < length; i++) {
+				if (i > 0) {
+					out.append(",");
+				}
+				if (array instanceof Object[]) {
+					value(((Object[]) array)[i], depth + 1);
+				} else if (array instanceof int[]) {
+					out.append(Integer.toString(((int[]) array)[i]));
+				} else if (array instanceof long[]) {
+					out.append(Long.toString(((long[]) array)[i]));
+				} else if (array instanceof char[]) {
+					out.append(((char[]) array)[i]);
+				} else {
+					out.append(String.valueOf(Array.get(array, i)));
+				}
+			}
+			out.append("}");
+		}
+
+		private void collection(Collection<?> collection, int depth) throws IOException {
+			out.append("[");
+			boolean first = true;
+			for (Object element : collection) {
+				if (!first) {
+					out.append(", ");
+				}
+				first = false;
+				value(element, depth + 1);
+			}
+			out.append("]");
+		}
+
+		private void map(Map<?, ?> map, int depth) throws IOException {
+			out.append("{");
+			boolean first = true;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				if (!first) {
+					out.append(", ");
+				}
+				first = false;
+				value(entry.getKey(), depth + 1);
+				out.append("=");
+				value(entry.getValue(), depth + 1);
+			}
+			out.append("}");
+		}
+
+		private void fields(Object obj, Layout layout, int depth) throws IOException {
+			out.append(layout.name).append("{");
+			for (Level level : layout.levels) {
+				out.append("[");
+				for (int i = 0; i < level.names.length; i++) {
+					if (i > 0) {
+						out.append(",\n");
+					}
+					out.append(level.names[i]).append(" = ");
+					Object value;
+					try {
+						value = (Object) level.getters[i].invokeExact(obj);
+					} catch (Throwable e) {
+						out.append(ELLIPSIS);
+						continue;
+					}
+					if (level.primitive[i]) {
+						out.append(String.valueOf(value));
+					} else {
+						value(value, depth + 1);
+					}
+				}
+				out.append("]");
+			}
+			out.append("}");
+		}
+	}
+
+	/**
+	 * 类的字段布局：从自身到父类，每层的实例字段读取器
+	 */
+	private static final class Layout {
+
+		final String name;
+
+		final Level[] levels;
+
+		/**
+		 * 字段不可访问(如JDK内部类型)，以toString()输出
+		 */
+		final boolean opaque;
+
+		private Layout(String name, Level[] levels, boolean opaque) {
+			this.name = name;
+			this.levels = levels;
+			this.opaque = opaque;
+		}
+
+		static Layout of(Class<?> type) {
+			List<Level> levels = new ArrayList<>();
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			try {
+				for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+					List<Field> fields = new ArrayList<>();
+					for (Field field : c.getDeclaredFields()) {
+						if (!Modifier.isStatic(field.getModifiers())) {
+							fields.add(field);
+						}
+					}
+					if (fields.isEmpty()) {
+						continue;
+					}
+					int size = fields.size();
+					String[] names = new String[size];
+					MethodHandle[] getters = new MethodHandle[size];
+					boolean[] primitive = new boolean[size];
+					for (int i = 0; i < size; i++) {
+						Field field = fields.get(i);
+						field.setAccessible(true);
+						names[i] = field.getName();
+						getters[i] = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+						primitive[i] = field.getType().isPrimitive();
+					}
+					levels.add(new Level(names, getters, primitive));
+				}
+			} catch (IllegalAccessException | RuntimeException e) {
+				return new Layout(type.getName(), new Level[0], true);
+			}
+			return new Layout(type.getName(), levels.toArray(new Level[0]), false);
+		}
+	}
+
+	private static final class Level {
+
+		final String[] names;
+
+		final MethodHandle[] getters;
+
+		final boolean[] primitive;
+
+		Level(String[] names, MethodHandle[] getters, boolean[] primitive) {
+			this.names = names;
+			this.getters = getters;
+			this.primitive = primitive;
+		}
+	}
+
+	/**
+	 * 达到长度上限
+	 */
+	private static final class Truncated extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		Truncated() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * 限制写入长度的{@link Appendable}，达到上限时写入剩余部分后抛出{@link Truncated}
+	 */
+	private static final class Limited {
+
+		private final Appendable out;
+
+		private int remaining;
+
+		Limited(Appendable out, int maxLength) {
+			this.out = out;
+			this.remaining = Math.max(maxLength, 0);
+		}
+
+		Limited append(CharSequence text) throws IOException {
+			int length = text.length();
+			if (length > remaining) {
+				out.append(text, 0, remaining);
+				remaining = 0;
+				throw new Truncated();
+			}
+			out.append(text);
+			remaining -= length;
+			return this;
+		}
+
+		Limited append(char c) throws IOException {
+			if (remaining == 0) {
+				throw new Truncated();
+			}
+			out.append(c);
+			remaining--;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,301 @@
+package com.fhtiger.helper.utils.beans.processor;
+
+import com.fhtiger.helper.utils.beans.BeanMapper;
+import com.fhtiger.helper.utils.beans.BeanMapping;
+import com.fhtiger.helper.utils.beans.BeanPlan;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * BeanMappingProcessor
+ * 编译期为标注了{@link BeanMapping}的类生成{@code 类名$$BeanMapper}，以直接调用读写方法的代码实现{@link BeanMapper}
+ * <p>
+ * 属性规则与{@link java.beans.Introspector}一致：公有非静态的无参getX()(非void)、isX()(boolean)为读方法，
+ * 单参数且返回void的setX(v)为写方法，读写方法类型须相同，不含class属性。
+ * 类及其无参构造器均为public时直接创建实例，否则创建实例交由{@link BeanPlan}，与运行时内省的行为一致。
+ * <p>
+ * 使用：处理器不随本库自动注册，需在maven-compiler-plugin的annotationProcessorPaths中加入本库classifier为processor的构件：
+ * <br>&lt;path&gt;&lt;groupId&gt;com.fhtiger.utils&lt;/groupId&gt;&lt;artifactId&gt;simple-helper-utils&lt;/artifactId&gt;&lt;version&gt;...&lt;/version&gt;&lt;classifier&gt;processor&lt;/classifier&gt;&lt;/path&gt;
+ * <br>该构件只含处理器本身，生成的代码在编译及运行时仍依赖本库。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 20:10
+ */
+@SuppressWarnings({ "unused" })
+@SupportedAnnotationTypes("com.fhtiger.helper.utils.beans.BeanMapping")
+
+public final class BeanMappingProcessor extends AbstractProcessor {
+
+	/*以名称引用本库的类，处理器构件可单独加入annotationProcessorPaths*/
+	private static final String MAPPER = "com.fhtiger.helper.utils.beans.BeanMapper";
+
+	private static final String PLAN = "com.fhtiger.helper.utils.beans.BeanPlan";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (!supported(element)) {
+					continue;
+				}
+				TypeElement type = (TypeElement) element;
+				try {
+					generate(type);
+				} catch (IOException e) {
+					error(type, "生成" + type.getQualifiedName() + BeanMapper.SUFFIX + "失败:" + e.getMessage());
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 仅支持同一包中可访问的具体类或抽象类
+	 */
+	private boolean supported(Element element) {
+		if (element.getKind() != ElementKind.CLASS) {
+			error(element, "@BeanMapping 只能标注在类上(不含record、枚举及接口)");
+			return false;
+		}
+		for (Element e = element; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+			TypeElement current = (TypeElement) e;
+			if (current.getModifiers().contains(Modifier.PRIVATE)) {
+				error(element, "@BeanMapping 标注的类及其外部类不能为private");
+				return false;
+			}
+			NestingKind nesting = current.getNestingKind();
+			if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS || nesting == NestingKind.MEMBER && !current.getModifiers().contains(Modifier.STATIC)) {
+				error(element, "@BeanMapping 标注的类须为顶层类或静态内部类");
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void generate(TypeElement type) throws IOException {
+		Types types = processingEnv.getTypeUtils();
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + BeanMapper.SUFFIX;
+		String bean = typeName(types.erasure(type.asType()));
+		List<Property> properties = properties(type);
+		boolean direct = instantiable(type);
+
+		try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(binaryName + BeanMapper.SUFFIX, type).openWriter())) {
+			if (!packageName.isEmpty()) {
+				out.println("package " + packageName + ";");
+				out.println();
+			}
+			out.println("/**");
+			out.println(" * {@link " + bean + "}的转换器，由" + BeanMappingProcessor.class.getSimpleName() + "生成");
+			out.println(" */");
+			out.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+			out.println("public final class " + simpleName + " implements " + MAPPER + "<" + bean + "> {");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic Class<" + bean + "> type() {");
+			out.println("\t\treturn " + bean + ".class;");
+			out.println("\t}");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic " + bean + " newInstance() throws NoSuchMethodException {");
+			out.println(direct ? "\t\treturn new " + bean + "();" : "\t\treturn " + PLAN + ".of(" + bean + ".class).newInstance();");
+			out.println("\t}");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic " + bean + " copy(" + bean + " source, " + bean + " target) {");
+			for (Property property : properties) {
+				if (property.getter == null || property.setter == null) {
+					continue;
+				}
+				if (property.type.getKind().isPrimitive()) {
+					out.println("\t\ttarget." + property.setter + "(source." + property.getter + "());");
+				} else {
+					out.println("\t\t{");
+					out.println("\t\t\t" + typeName(property.type) + " value = source." + property.getter + "();");
+					out.println("\t\t\tif (value != null) {");
+					out.println("\t\t\t\ttarget." + property.setter + "(value);");
+					out.println("\t\t\t}");
+					out.println("\t\t}");
+				}
+			}
+			out.println("\t\treturn target;");
+			out.println("\t}");
+			out.println();
+			long readable = properties.stream().filter(p -> p.getter != null).count();
+			out.println("\t@Override");
+			out.println("\tpublic java.util.Map<String, Object> toMap(" + bean + " bean) {");
+			out.println("\t\tjava.util.Map<String, Object> map = new java.util.HashMap<>(" + ((int) (readable / 0.75f) + 1) + ");");
+			for (Property property : properties) {
+				if (property.getter != null) {
+					out.println("\t\tmap.put(\"" + property.name + "\", bean." + property.getter + "());");
+				}
+			}
+			out.println("\t\treturn map;");
+			out.println("\t}");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic " + bean + " fromMap(java.util.Map<String, ?> map) throws NoSuchMethodException {");
+			if (direct) {
+				out.println("\t\t" + bean + " bean = new " + bean + "();");
+				for (Property property : properties) {
+					if (property.setter == null) {
+						continue;
+					}
+					TypeMirror cast = property.type.getKind().isPrimitive() ? types.boxedClass((PrimitiveType) property.type).asType() : property.type;
+					out.println("\t\tif (map.containsKey(\"" + property.name + "\")) {");
+					out.println("\t\t\tbean." + property.setter + "((" + typeName(cast) + ") map.get(\"" + property.name + "\"));");
+					out.println("\t\t}");
+				}
+				out.println("\t\treturn bean;");
+			} else {
+				out.println("\t\treturn " + PLAN + ".of(" + bean + ".class).fromMap(map);");
+			}
+			out.println("\t}");
+			out.println("}");
+		}
+	}
+
+	/**
+	 * 按{@link java.beans.Introspector}的规则收集属性，按属性名排序
+	 */
+	private List<Property> properties(TypeElement type) {
+		Types types = processingEnv.getTypeUtils();
+		DeclaredType declared = (DeclaredType) type.asType();
+		Map<String, Property> byName = new TreeMap<>();
+		Map<String, List<ExecutableElement>> setters = new TreeMap<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+				continue;
+			}
+			String name = method.getSimpleName().toString();
+			ExecutableType resolved = (ExecutableType) types.asMemberOf(declared, method);
+			TypeMirror returnType = resolved.getReturnType();
+			int parameters = resolved.getParameterTypes().size();
+			if (parameters == 0 && name.length() > 2 && name.startsWith("is") && returnType.getKind() == TypeKind.BOOLEAN) {
+				/*boolean属性isX优先于getX*/
+				byName.put(decapitalize(name.substring(2)), new Property(decapitalize(name.substring(2)), types.erasure(returnType), name));
+			} else if (parameters == 0 && name.length() > 3 && name.startsWith("get") && returnType.getKind() != TypeKind.VOID) {
+				String property = decapitalize(name.substring(3));
+				Property current = byName.get(property);
+				if (current == null || !current.getter.startsWith("is")) {
+					byName.put(property, new Property(property, types.erasure(returnType), name));
+				}
+			} else if (parameters == 1 && name.length() > 3 && name.startsWith("set") && returnType.getKind() == TypeKind.VOID) {
+				setters.computeIfAbsent(decapitalize(name.substring(3)), k -> new ArrayList<>()).add(method);
+			}
+		}
+		for (Map.Entry<String, List<ExecutableElement>> entry : setters.entrySet()) {
+			Property property = byName.get(entry.getKey());
+			for (ExecutableElement setter : entry.getValue()) {
+				TypeMirror parameterType = types.erasure(((ExecutableType) types.asMemberOf(declared, setter)).getParameterTypes().get(0));
+				if (property == null) {
+					property = new Property(entry.getKey(), parameterType, null);
+					byName.put(entry.getKey(), property);
+				}
+				if (types.isSameType(property.type, parameterType)) {
+					property.setter = setter.getSimpleName().toString();
+					break;
+				}
+			}
+		}
+		byName.keySet().removeIf("class"::equalsIgnoreCase);
+		return new ArrayList<>(byName.values());
+	}
+
+	/**
+	 * 可在生成类中直接创建实例：非抽象的public类(外部类同样为public)，且有public无参构造器
+	 */
+	private static boolean instantiable(TypeElement type) {
+		if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+			if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+				return false;
+			}
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty()) {
+				return constructor.getModifiers().contains(Modifier.PUBLIC);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 已擦除类型的源码写法，不含类型注解
+	 */
+	private static String typeName(TypeMirror type) {
+		switch (type.getKind()) {
+			case DECLARED:
+				return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+			case ARRAY:
+				return typeName(((ArrayType) type).getComponentType()) + "[]";
+			default:
+				return type.getKind().name().toLowerCase();
+		}
+	}
+
+	/**
+	 * 同{@link java.beans.Introspector#decapitalize(String)}
+	 */
+	private static String decapitalize(String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+		return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private static final class Property {
+
+		final String name;
+
+		final TypeMirror type;
+
+		final String getter;
+
+		String setter;
+
+		Property(String name, TypeMirror type, String getter) {
+			this.name = name;
+			this.type = type;
+			this.getter = getter;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package com.fhtiger.helper.utils.helpful;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * BoundedCache
+ * 有界并发缓存，超出容量时按近似LRU(二次机会/CLOCK)策略淘汰，并记录命中、未命中及淘汰次数
+ * <p>
+ * 命中时仅对条目做一次访问标记，不产生锁竞争；淘汰仅在新增条目导致超出容量时进行。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author Chivenh
+ * @since 2026年10月18日 10:12
+ */
+@SuppressWarnings({ "unused" })
+
+public final class BoundedCache<K, V> {
+
+	private final ConcurrentHashMap<K, Node<V>> store;
+
+	private final int maxSize;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * 淘汰指针，仅在持有evictLock时访问
+	 */
+	private Iterator<Map.Entry<K, Node<V>>> hand;
+
+	private final Object evictLock = new Object();
+
+	/**
+	 * @param maxSize 最大容量
+	 */
+	public BoundedCache(int maxSize) {
+		AssertDetect.test(maxSize > 0, "缓存容量必须大于0");
+		this.maxSize = maxSize;
+		this.store = new ConcurrentHashMap<>(Math.min(maxSize, 64));
+	}
+
+	/**
+	 * 获取缓存值，不存在时使用loader加载并放入缓存
+	 *
+	 * @param key    键
+	 * @param loader 加载器
+	 * @return 缓存值
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		Node<V> node = store.get(key);
+		if (node != null) {
+			hits.increment();
+			node.touch();
+			return node.value;
+		}
+		misses.increment();
+		node = store.computeIfAbsent(key, k -> new Node<>(loader.apply(k)));
+		if (store.size() > maxSize) {
+			evict();
+		}
+		return node.value;
+	}
+
+	/**
+	 * 获取缓存值，不存在时返回null(不计入统计)
+	 *
+	 * @param key 键
+	 * @return 缓存值
+	 */
+	public V peek(K key) {
+		Node<V> node = store.get(key);
+		return node == null ? null : node.value;
+	}
+
+	/**
+	 * 移除缓存
+	 *
+	 * @param key 键
+	 */
+	public void remove(K key) {
+		store.remove(key);
+	}
+
+	/**
+	 * 清空缓存及统计
+	 */
+	public void clear() {
+		synchronized (evictLock) {
+			store.clear();
+			hand = null;
+		}
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	public int size() {
+		return store.size();
+	}
+
+	public int maxSize() {
+		return maxSize;
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	public long evictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * 命中率
+	 *
+	 * @return 0-1之间的命中率，无访问时为0
+	 */
+	public double hitRate() {
+		long h = hits.sum();
+		long total = h + misses.sum();
+		return total == 0 ? 0 : (double) h / total;
+	}
+
+	/**
+	 * 二次机会淘汰：被访问过的条目清除标记后跳过，直到回落到容量以内
+	 */
+	private void evict() {
+		synchronized (evictLock) {
+			/*最多扫描两轮，保证标记全部被清除后仍能淘汰*/
+			int budget = (store.size() << 1) + 1;
+			while (store.size() > maxSize && budget-- > 0) {
+				if (hand == null || !hand.hasNext()) {
+					hand = store.entrySet().iterator();
+					if (!hand.hasNext()) {
+						return;
+					}
+				}
+				Map.Entry<K, Node<V>> entry = hand.next();
+				Node<V> node = entry.getValue();
+				if (node.referenced) {
+					node.referenced = false;
+				} else if (store.remove(entry.getKey(), node)) {
+					evictions.increment();
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "BoundedCache{size=" + size() + ", maxSize=" + maxSize + ", hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + '}';
+	}
+
+	private static final class Node<V> {
+		final V value;
+		volatile boolean referenced;
+
+		Node(V value) {
+			this.value = value;
+		}
+
+		void touch() {
+			/*先读后写，避免命中时反复写共享缓存行*/
+			if (!referenced) {
+				referenced = true;
+			}
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package com.fhtiger.helper.utils.helpful;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.time.Duration;
 import java.util.concurrent.*;
 
@@ -19,6 +22,45 @@ public final class HelpfulExecutors {
 		throw new IllegalAccessException("此工具类不能被实例化!");
 	}
 
+	/**
+	 * {@code Executors.newVirtualThreadPerTaskExecutor()}，运行环境低于JDK21时为null
+	 */
+	private static final MethodHandle VIRTUAL_EXECUTOR_FACTORY = virtualExecutorFactory();
+
+	private static MethodHandle virtualExecutorFactory() {
+		try {
+			return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 运行环境是否支持虚拟线程
+	 *
+	 * @return boolean
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return VIRTUAL_EXECUTOR_FACTORY != null;
+	}
+
+	/**
+	 * 每个任务使用一个虚拟线程的线程池，运行环境不支持虚拟线程(低于JDK21)时退化为{@link #newCachedThreadPool(String)}
+	 *
+	 * @param threadPrefix 退化时使用的线程名前缀
+	 * @return -
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor(final String threadPrefix) {
+		if (VIRTUAL_EXECUTOR_FACTORY != null) {
+			try {
+				return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invokeExact();
+			} catch (Throwable e) {
+				throw new SimpleRuntimeException("虚拟线程池创建失败", e);
+			}
+		}
+		return newCachedThreadPool(threadPrefix);
+	}
+
 	/**
 	 * Shutdown
 	 *
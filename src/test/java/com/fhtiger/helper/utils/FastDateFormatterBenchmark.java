@@ -0,0 +1,110 @@
+package com.fhtiger.helper.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastDateFormatterBenchmark
+ * 三种引擎{@link TimeUtil.Engine#EF}、{@link TimeUtil.Engine#ED}、{@link TimeUtil.Engine#ES}的解析与格式化对比，
+ * 另附EF批量解析一列日期的耗时
+ * <p>
+ * 运行main方法即可，分配情况可加 -prof gc 查看(gc.alloc.rate.norm)。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 23:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastDateFormatterBenchmark {
+
+	private static final int SIZE = 1024;
+
+	@Param({ "EF", "ED", "ES" })
+	public String engine;
+
+	/**
+	 * C: yyyy-MM-dd HH:mm:ss，A: yyyy-MM-dd
+	 */
+	@Param({ "C", "A" })
+	public String pattern;
+
+	private TimeUtil.Bound bound;
+
+	private TimeUtil.DateType type;
+
+	private String[] texts;
+
+	private Date[] dates;
+
+	private long[] out;
+
+	private BitSet failures;
+
+	private int cursor;
+
+	@Setup
+	public void setup() {
+		bound = TimeUtil.with(TimeUtil.Engine.valueOf(engine));
+		type = "A".equals(pattern) ? TimeUtil.DateType.A : TimeUtil.DateType.C;
+		texts = new String[SIZE];
+		dates = new Date[SIZE];
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long from = TimeUtil.toEpochMillis(LocalDateTime.of(1990, 1, 1, 0, 0));
+		long to = TimeUtil.toEpochMillis(LocalDateTime.of(2030, 1, 1, 0, 0));
+		for (int i = 0; i < SIZE; i++) {
+			dates[i] = new Date(random.nextLong(from, to) / 1000 * 1000);
+			texts[i] = TimeUtil.with(TimeUtil.Engine.ED).strDate(type, dates[i]);
+		}
+		out = new long[SIZE];
+		failures = new BitSet(SIZE);
+	}
+
+	private int next() {
+		return cursor = (cursor + 1) & (SIZE - 1);
+	}
+
+	@Benchmark
+	public Date parse() {
+		return bound.getDate(texts[next()], type);
+	}
+
+	@Benchmark
+	public String format() {
+		return bound.strDate(type, dates[next()]);
+	}
+
+	/**
+	 * 批量解析整列(固定按EF规则，与引擎参数无关)，结果为每批{@value #SIZE}行的耗时
+	 */
+	@Benchmark
+	public int parseColumn() {
+		failures.clear();
+		return TimeUtil.parseEpochMillis(type, texts, out, failures);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(FastDateFormatterBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,215 @@
+package com.fhtiger.helper.utils;
+
+import com.fhtiger.helper.utils.TimeUtil.DateType;
+import com.fhtiger.helper.utils.TimeUtil.Engine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * FastDateFormatterTest
+ * {@link Engine#EF}(及{@link ZoneOffsetTable})与{@link Engine#ED}、{@link Engine#ES}在夏令时间隙、重叠及非法日期上的一致性
+ * <p>
+ * 间隙、重叠取自各时区1980-2030年及2249-2252年(偏移表覆盖范围之外)的全部变更点，每个变更点前后90分钟内每15分钟取样。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 23:50
+ */
+class FastDateFormatterTest {
+
+	/**
+	 * 纽约、伦敦为常规夏令时；豪勋爵岛夏令时为30分钟；圣保罗的间隙在午夜；都柏林在tzdb中冬季为负夏令时；上海只有1986-1991年的夏令时
+	 */
+	private static final String[] ZONES = { "America/New_York", "Europe/London", "Australia/Lord_Howe", "America/Sao_Paulo", "Europe/Dublin", "Asia/Shanghai" };
+
+	private static final DateType[] TYPES = { DateType.C, DateType.C2, DateType.A };
+
+	private TimeZone original;
+
+	@BeforeEach
+	void saveZone() {
+		original = TimeZone.getDefault();
+	}
+
+	@AfterEach
+	void restoreZone() {
+		TimeUtil.useClock(null);
+		TimeZone.setDefault(original);
+		TimeUtil.refreshDefaultZone();
+	}
+
+	private static ZoneId useZone(String zone) {
+		TimeZone.setDefault(TimeZone.getTimeZone(zone));
+		TimeUtil.refreshDefaultZone();
+		return ZoneId.of(zone);
+	}
+
+	private static List<ZoneOffsetTransition> transitions(ZoneRules rules) {
+		List<ZoneOffsetTransition> list = new ArrayList<>();
+		collect(rules, "1980-01-01T00:00:00Z", "2030-01-01T00:00:00Z", list);
+		collect(rules, "2249-01-01T00:00:00Z", "2252-01-01T00:00:00Z", list);
+		return list;
+	}
+
+	private static void collect(ZoneRules rules, String from, String to, List<ZoneOffsetTransition> list) {
+		Instant end = Instant.parse(to);
+		ZoneOffsetTransition transition = rules.nextTransition(Instant.parse(from));
+		while (transition != null && transition.getInstant().isBefore(end)) {
+			list.add(transition);
+			transition = rules.nextTransition(transition.getInstant());
+		}
+	}
+
+	private static String pattern(DateType type) {
+		return type == DateType.A ? "yyyy-MM-dd" : type == DateType.C2 ? "yyyy-MM-dd HH:mm" : "yyyy-MM-dd HH:mm:ss";
+	}
+
+	private static String text(DateType type, LocalDateTime local) {
+		if (type == DateType.A) {
+			return local.toLocalDate().toString();
+		}
+		String minutes = String.format("%s %02d:%02d", local.toLocalDate(), local.getHour(), local.getMinute());
+		return type == DateType.C2 ? minutes : minutes + ":00";
+	}
+
+	@Test
+	void parseAcrossGapsAndOverlaps() {
+		for (String name : ZONES) {
+			ZoneId zone = useZone(name);
+			for (ZoneOffsetTransition transition : transitions(zone.getRules())) {
+				for (int minutes = -90; minutes <= 90; minutes += 15) {
+					LocalDateTime sample = transition.getDateTimeBefore().plusMinutes(minutes);
+					for (DateType type : TYPES) {
+						String text = text(type, sample);
+						LocalDateTime local = type == DateType.A ? sample.toLocalDate().atStartOfDay() : sample;
+						/*间隙按间隙长度后移；重叠时ED取较早偏移，ES(SimpleDateFormat)取较晚偏移*/
+						long earlier = local.atZone(zone).toInstant().toEpochMilli();
+						long later = local.atZone(zone).withLaterOffsetAtOverlap().toInstant().toEpochMilli();
+						String at = name + " " + text;
+						assertEquals(earlier, TimeUtil.with(Engine.ED).getDate(text, type).getTime(), "ED " + at);
+						assertEquals(earlier, TimeUtil.with(Engine.EF).getDate(text, type).getTime(), "EF " + at);
+						assertEquals(earlier, TimeUtil.parseEpochMillis(type, text), "parseEpochMillis " + at);
+						assertEquals(later, TimeUtil.with(Engine.ES).getDate(text, type).getTime(), "ES " + at);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void bulkParseAcrossGapsAndOverlaps() {
+		for (String name : ZONES) {
+			ZoneId zone = useZone(name);
+			List<String> texts = new ArrayList<>();
+			for (ZoneOffsetTransition transition : transitions(zone.getRules())) {
+				for (int minutes = -90; minutes <= 90; minutes += 15) {
+					texts.add(text(DateType.C, transition.getDateTimeBefore().plusMinutes(minutes)));
+				}
+			}
+			long[] out = new long[texts.size()];
+			BitSet failures = new BitSet();
+			assertEquals(0, TimeUtil.parseEpochMillis(DateType.C, texts, out, failures), name);
+			for (int i = 0; i < out.length; i++) {
+				assertEquals(TimeUtil.with(Engine.ED).getDate(texts.get(i), DateType.C).getTime(), out[i], name + " " + texts.get(i));
+			}
+		}
+	}
+
+	@Test
+	void formatAcrossTransitions() {
+		for (String name : ZONES) {
+			ZoneId zone = useZone(name);
+			for (ZoneOffsetTransition transition : transitions(zone.getRules())) {
+				for (int minutes = -90; minutes <= 90; minutes += 15) {
+					Date date = Date.from(transition.getInstant().plusSeconds(minutes * 60L + 7));
+					for (DateType type : TYPES) {
+						String expected = TimeUtil.with(Engine.ED).strDate(type, date);
+						String at = name + " " + date.toInstant() + " " + pattern(type);
+						assertEquals(expected, TimeUtil.with(Engine.EF).strDate(type, date), "EF " + at);
+						assertEquals(expected, TimeUtil.with(Engine.ES).strDate(type, date), "ES " + at);
+						assertEquals(expected, TimeUtil.formatEpochMillis(type, date.getTime(), new StringBuilder()).toString(), "formatEpochMillis " + at);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * getNowDate直接截断本地时间(ES在重叠时经toEpochLater取较晚偏移)，结果应与格式化后再解析一致
+	 */
+	@Test
+	void nowDateMatchesFormatThenParse() {
+		for (String name : ZONES) {
+			ZoneId zone = useZone(name);
+			for (ZoneOffsetTransition transition : transitions(zone.getRules())) {
+				for (int minutes = -90; minutes <= 90; minutes += 15) {
+					Instant now = transition.getInstant().plusSeconds(minutes * 60L + 7);
+					TimeUtil.useClock(Clock.fixed(now, zone));
+					for (Engine engine : Engine.values()) {
+						TimeUtil.Bound bound = TimeUtil.with(engine);
+						for (DateType type : TYPES) {
+							Date expected = bound.getDate(bound.strDate(type, Date.from(now)), type);
+							assertEquals(expected, bound.getNowDate(type), engine + " " + name + " " + now + " " + pattern(type));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void invalidDatesFollowEd() {
+		useZone("Asia/Shanghai");
+		String[] texts = { "2021-02-29 10:00:00", "2020-02-30 10:00:00", "2021-04-31 10:00:00", "2021-13-01 10:00:00", "2021-00-10 10:00:00", "2021-01-00 10:00:00",
+				"2021-01-01 24:00:00", "2021-01-01 10:60:00", "2021-01-01 10:00:60", "2021-01-01", "2021-01-01 10:00:00x", "2021/01/01 10:00:00", "2021-1-1 1:2:3",
+				"12021-01-01 10:00:00", "2021-01-01T10:00:00", "2021-01-01 10:00:00.123" };
+		long[] out = new long[texts.length];
+		BitSet failures = new BitSet();
+		TimeUtil.parseEpochMillis(DateType.C, texts, out, failures);
+		for (int i = 0; i < texts.length; i++) {
+			String text = texts[i];
+			Long expected = parseOrNull(Engine.ED, text);
+			Long actual = parseOrNull(Engine.EF, text);
+			assertEquals(expected, actual, "EF " + text);
+			assertEquals(expected == null, failures.get(i), "failures " + text);
+			if (expected != null) {
+				assertEquals(expected.longValue(), out[i], "bulk " + text);
+				assertEquals(expected.longValue(), TimeUtil.parseEpochMillis(DateType.C, text), "parseEpochMillis " + text);
+			}
+		}
+	}
+
+	/**
+	 * ES为宽松解析，非法日期顺延，与批量解析的严格规则不同
+	 */
+	@Test
+	void esIsLenient() {
+		ZoneId zone = useZone("Asia/Shanghai");
+		long expected = LocalDateTime.of(2022, 1, 1, 10, 0).atZone(zone).toInstant().toEpochMilli();
+		assertEquals(expected, TimeUtil.with(Engine.ES).getDate("2021-13-01 10:00:00", DateType.C).getTime());
+		assertNull(parseOrNull(Engine.EF, "2021-13-01 10:00:00"));
+	}
+
+	private static Long parseOrNull(Engine engine, String text) {
+		try {
+			return TimeUtil.with(engine).getDate(text, DateType.C).getTime();
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package com.fhtiger.helper.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NumberParserBenchmark
+ * {@link SpecialUtil#getInt(Object)}、getLong、getDouble、getBigDecimal在装箱数值、String及其它CharSequence输入下的耗时，
+ * 对比原先两次toString().trim()再交给JDK解析的实现；{@link NumberParser}直接解析String与CharSequence
+ * <p>
+ * 输入均带首尾空白(装箱数值除外)；分配情况可加 -prof gc 查看(gc.alloc.rate.norm)。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 23:40
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserBenchmark {
+
+	private static final String INT = " 1234567 ";
+
+	private static final String LONG = " 9876543210123 ";
+
+	private static final String DOUBLE = " 12345.678 ";
+
+	private static final String DECIMAL = " 1024.50 ";
+
+	/**
+	 * SpecialUtil取值方法的输入：boxed为对应的装箱数值，string为String，charSequence为StringBuilder
+	 */
+	@State(Scope.Benchmark)
+	public static class Values {
+
+		@Param({ "boxed", "string", "charSequence" })
+		public String kind;
+
+		Object intValue;
+
+		Object longValue;
+
+		Object doubleValue;
+
+		Object decimalValue;
+
+		@Setup
+		public void setup() {
+			switch (kind) {
+				case "boxed":
+					intValue = Integer.valueOf(INT.trim());
+					longValue = Long.valueOf(LONG.trim());
+					doubleValue = Double.valueOf(DOUBLE.trim());
+					decimalValue = new BigDecimal(DECIMAL.trim());
+					break;
+				case "string":
+					intValue = INT;
+					longValue = LONG;
+					doubleValue = DOUBLE;
+					decimalValue = DECIMAL;
+					break;
+				default:
+					intValue = new StringBuilder(INT);
+					longValue = new StringBuilder(LONG);
+					doubleValue = new StringBuilder(DOUBLE);
+					decimalValue = new StringBuilder(DECIMAL);
+			}
+		}
+	}
+
+	/**
+	 * NumberParser的输入：string为String，charSequence为StringBuilder
+	 */
+	@State(Scope.Benchmark)
+	public static class Texts {
+
+		@Param({ "string", "charSequence" })
+		public String kind;
+
+		CharSequence intText;
+
+		CharSequence longText;
+
+		CharSequence doubleText;
+
+		CharSequence decimalText;
+
+		@Setup
+		public void setup() {
+			boolean string = "string".equals(kind);
+			intText = string ? INT : new StringBuilder(INT);
+			longText = string ? LONG : new StringBuilder(LONG);
+			doubleText = string ? DOUBLE : new StringBuilder(DOUBLE);
+			decimalText = string ? DECIMAL : new StringBuilder(DECIMAL);
+		}
+	}
+
+	@Benchmark
+	public int getInt(Values values) {
+		return SpecialUtil.getInt(values.intValue);
+	}
+
+	@Benchmark
+	public long getLong(Values values) {
+		return SpecialUtil.getLong(values.longValue);
+	}
+
+	@Benchmark
+	public double getDouble(Values values) {
+		return SpecialUtil.getDouble(values.doubleValue);
+	}
+
+	@Benchmark
+	public BigDecimal getBigDecimal(Values values) {
+		return SpecialUtil.getBigDecimal(values.decimalValue);
+	}
+
+	@Benchmark
+	public int legacyGetInt(Values values) {
+		Object o = values.intValue;
+		o = o == null || o.toString().trim().isEmpty() ? 0 : o.toString().trim();
+		return Integer.parseInt(o.toString());
+	}
+
+	@Benchmark
+	public long legacyGetLong(Values values) {
+		Object o = values.longValue;
+		o = o == null || o.toString().trim().isEmpty() ? 0 : o.toString().trim();
+		return Long.parseLong(o.toString());
+	}
+
+	@Benchmark
+	public double legacyGetDouble(Values values) {
+		Object o = values.doubleValue;
+		o = o == null || o.toString().trim().isEmpty() ? 0.0 : o.toString().trim();
+		return Double.parseDouble(o.toString());
+	}
+
+	@Benchmark
+	public BigDecimal legacyGetBigDecimal(Values values) {
+		Object o = values.decimalValue;
+		return o == null || o.toString().trim().isEmpty() ? null : new BigDecimal(o.toString().trim());
+	}
+
+	@Benchmark
+	public int parseInt(Texts texts) {
+		return NumberParser.parseInt(texts.intText, 0);
+	}
+
+	@Benchmark
+	public long parseLong(Texts texts) {
+		return NumberParser.parseLong(texts.longText, 0L);
+	}
+
+	@Benchmark
+	public double parseDouble(Texts texts) {
+		return NumberParser.parseDouble(texts.doubleText, 0.0);
+	}
+
+	@Benchmark
+	public BigDecimal tryParseBigDecimal(Texts texts) {
+		return NumberParser.tryParseBigDecimal(texts.decimalText);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(NumberParserBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,175 @@
+package com.fhtiger.helper.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * StringValueUtilTest
+ * 字面分隔与原先{@link String#split(String)}的结果对照；驼峰、下划线转换与原先按正则分隔的实现对照
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 23:55
+ */
+class StringValueUtilTest {
+
+	private static final String[] DELIMITERS = { ",", "|", ".", "::", "ab", ", ", "||", "*" };
+
+	private static final String[] VALUES = { "a", "abc", ",", ",,", ",,,", "a,", "a,,", ",a", ",,a", "a,b", "a,,b", ",a,,b,,", ",,a,b,,c,,,", "1,2,3", " , ", "|", "||", "|||", "a|b||c|",
+			"|a|", ".", "a.b..c.", "..a", "::", "a::b", "a:::b", "::a::::b::", ":a:", "ab", "aab", "abab", "aabba", "xabyabab", "a, b,, c, ", ", , a", "*a**b*" };
+
+	private static final String[] NAMES = { "", "a", "A", "_", "__", "___", "user_name", "_user_name", "__user_name", "user_name_", "user_name__", "user__name", "_user__name_",
+			"user_name_id", "User_Name", "USER_NAME", "user_1name", "user_ name", "user _name", "_ _", " _a", "a_ ", "中文_名称", "userName", "UserName", "userNAME", "URL", "aB",
+			"Ab", "AB", "userName1Id", "_userName", "user_Name", "HTTPServer", "ÀbCd", "aÀb", "a B", "userName_", "A_B", "_A" };
+
+	/**
+	 * 原先的驼峰、下划线转换：按正则分隔后逐段处理
+	 */
+	private static final Function<String, String> LEGACY_HUMP = value -> legacy(value, "_(?<=\\S)", (i, k) -> upperFirst(k));
+
+	private static final Function<String, String> LEGACY_HUMP_NON_FIRST = value -> legacy(value, "_(?<=\\S)", (i, k) -> i > 0 ? upperFirst(k) : k);
+
+	private static final Function<String, String> LEGACY_UNDERLINE = value -> legacy(value, "(?=[A-Z])",
+			(i, k) -> k.length() > 0 ? (i > 0 ? "_" : "") + Character.toLowerCase(k.charAt(0)) + k.substring(1) : k);
+
+	private static final Function<String, String> LEGACY_UNDERLINE_NON_FIRST = value -> legacy(value, "(?=[A-Z])",
+			(i, k) -> i > 0 && k.length() > 0 ? "_" + Character.toLowerCase(k.charAt(0)) + k.substring(1) : k);
+
+	private static String legacy(String value, String regex, BiFunction<Integer, String, String> convert) {
+		if (value == null || value.isEmpty()) {
+			return value;
+		}
+		String[] parts = value.split(regex);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < parts.length; i++) {
+			sb.append(convert.apply(i, parts[i]));
+		}
+		return sb.toString();
+	}
+
+	private static String upperFirst(String k) {
+		return k.length() > 0 ? Character.toUpperCase(k.charAt(0)) + k.substring(1) : k;
+	}
+
+	/**
+	 * 原先的实现：按转义后的分隔符正则分隔
+	 */
+	private static List<String> split(String value, String delimiter) {
+		return Arrays.asList(value.split(Pattern.quote(delimiter)));
+	}
+
+	private static void assertLiteral(String value, String delimiter) {
+		String at = "[" + value + "] by [" + delimiter + "]";
+		List<String> expected = split(value, delimiter);
+		assertEquals(expected, StringValueUtil.splitLiteralTo(value, delimiter, s -> s), "splitLiteralTo " + at);
+		List<String> indexed = new ArrayList<>();
+		List<String> tokens = StringValueUtil.splitLiteralBiTo(value, delimiter, (i, s) -> {
+			indexed.add(i + ":" + s);
+			return s;
+		});
+		assertEquals(expected, tokens, "splitLiteralBiTo " + at);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(i + ":" + expected.get(i), indexed.get(i), "splitLiteralBiTo index " + at);
+		}
+		if (delimiter.chars().noneMatch(c -> ".$|()[{^?*+\\".indexOf(c) >= 0)) {
+			/*不含正则元字符的分隔符由splitTo直接走字面分隔*/
+			assertEquals(Arrays.asList(value.split(delimiter)), StringValueUtil.splitTo(value, delimiter, s -> s), "splitTo " + at);
+		}
+	}
+
+	@Test
+	void literalMatchesStringSplit() {
+		for (String delimiter : DELIMITERS) {
+			for (String value : VALUES) {
+				assertLiteral(value.replace(",", delimiter), delimiter);
+				assertLiteral(value, delimiter);
+			}
+		}
+	}
+
+	@Test
+	void literalMatchesStringSplitOnRandomInput() {
+		Random random = new Random(20261018L);
+		char[] alphabet = { 'a', 'b', ',', ':', '|', '.', ' ' };
+		String[] delimiters = { ",", "::", "ab", "|", ".", ", ", "a:" };
+		for (int n = 0; n < 50_000; n++) {
+			char[] chars = new char[1 + random.nextInt(12)];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = alphabet[random.nextInt(alphabet.length)];
+			}
+			assertLiteral(new String(chars), delimiters[random.nextInt(delimiters.length)]);
+		}
+	}
+
+	@Test
+	void emptyValueAndDelimiter() {
+		assertEquals(Collections.emptyList(), StringValueUtil.splitLiteralTo("", ",", s -> s));
+		assertEquals(Collections.emptyList(), StringValueUtil.splitLiteralTo(null, ",", s -> s));
+		assertEquals(Collections.emptyList(), StringValueUtil.splitTo("", ",", s -> s));
+		/*分隔符为空时整体作为一段(String.split会逐字符分隔)*/
+		assertEquals(Collections.singletonList("a,b"), StringValueUtil.splitLiteralTo("a,b", "", s -> s));
+	}
+
+	@Test
+	void literalToLong() {
+		assertEquals(Arrays.asList(1L, 22L, -333L), StringValueUtil.splitLiteralToLong("1::22::-333", "::"));
+		assertEquals(Arrays.asList(1L, 22L), StringValueUtil.splitToLong("1,22,,"));
+	}
+
+	private static void assertNames(String value) {
+		String at = "[" + value + "]";
+		assertEquals(LEGACY_HUMP.apply(value), StringValueUtil.hump(value), "hump " + at);
+		assertEquals(LEGACY_HUMP_NON_FIRST.apply(value), StringValueUtil.humpNonFirst(value), "humpNonFirst " + at);
+		assertEquals(LEGACY_UNDERLINE.apply(value), StringValueUtil.underline(value), "underline " + at);
+		assertEquals(LEGACY_UNDERLINE_NON_FIRST.apply(value), StringValueUtil.underlineNonFirst(value), "underlineNonFirst " + at);
+		assertEquals(LEGACY_HUMP.apply(value), StringValueUtil.humpCached(value), "humpCached " + at);
+		assertEquals(LEGACY_HUMP_NON_FIRST.apply(value), StringValueUtil.humpNonFirstCached(value), "humpNonFirstCached " + at);
+		assertEquals(LEGACY_UNDERLINE.apply(value), StringValueUtil.underlineCached(value), "underlineCached " + at);
+		assertEquals(LEGACY_UNDERLINE_NON_FIRST.apply(value), StringValueUtil.underlineNonFirstCached(value), "underlineNonFirstCached " + at);
+	}
+
+	/**
+	 * 首、尾及连续的下划线；首字符大写时(?=[A-Z])在开头的零宽匹配不产生空段
+	 */
+	@Test
+	void namesMatchLegacyRegex() {
+		for (String value : NAMES) {
+			assertNames(value);
+		}
+		assertEquals("UserName", StringValueUtil.hump("_user__name_"));
+		assertEquals("User", StringValueUtil.humpNonFirst("_user"));
+		assertEquals("user_name", StringValueUtil.underline("UserName"));
+		assertEquals("User_name", StringValueUtil.underlineNonFirst("UserName"));
+	}
+
+	@Test
+	void namesMatchLegacyRegexOnRandomInput() {
+		Random random = new Random(20261018L);
+		char[] alphabet = { 'a', 'b', 'A', 'Z', '_', '_', ' ', '1', 'À', '中' };
+		for (int n = 0; n < 50_000; n++) {
+			char[] chars = new char[1 + random.nextInt(10)];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = alphabet[random.nextInt(alphabet.length)];
+			}
+			assertNames(new String(chars));
+		}
+	}
+
+	@Test
+	void nullName() {
+		assertNull(StringValueUtil.hump(null));
+		assertNull(StringValueUtil.humpNonFirst(null));
+		assertNull(StringValueUtil.underline(null));
+		assertNull(StringValueUtil.underlineNonFirst(null));
+	}
+}
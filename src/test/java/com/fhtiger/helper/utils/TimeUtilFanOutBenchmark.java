@@ -0,0 +1,108 @@
+package com.fhtiger.helper.utils;
+
+import com.fhtiger.helper.utils.helpful.HelpfulExecutors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * TimeUtilFanOutBenchmark
+ * 虚拟线程扇出场景下的引擎选择：每个任务一个虚拟线程，比较{@link TimeUtil#with(TimeUtil.Engine)}绑定的{@link TimeUtil.Bound}
+ * 与{@link TimeUtil#use(TimeUtil.Engine, Supplier)}线程级引擎的耗时，另以空任务给出扇出本身的开销
+ * <p>
+ * 线程池取自{@link HelpfulExecutors#newVirtualThreadPerTaskExecutor(String)}，运行环境低于JDK21时退化为平台线程池，
+ * 可由{@link HelpfulExecutors#isVirtualThreadSupported()}判断，此时结果仅供参考。
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 23:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeUtilFanOutBenchmark {
+
+	private static final String TEXT = "2020-04-26 15:24:00";
+
+	@Param({ "10000" })
+	public int tasks;
+
+	private ExecutorService executor;
+
+	private TimeUtil.Bound bound;
+
+	@Setup
+	public void setup() {
+		executor = HelpfulExecutors.newVirtualThreadPerTaskExecutor("fan-out-");
+		bound = TimeUtil.with(TimeUtil.Engine.ED);
+	}
+
+	@TearDown
+	public void tearDown() throws InterruptedException {
+		HelpfulExecutors.shutdownExecutor(executor, Duration.ofMinutes(1));
+	}
+
+	/**
+	 * 提交tasks个任务并等待全部完成
+	 *
+	 * @param task 任务
+	 * @return 结果的毫秒值之和
+	 */
+	private long fanOut(Supplier<Date> task) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(tasks);
+		LongAdder sum = new LongAdder();
+		for (int i = 0; i < tasks; i++) {
+			executor.execute(() -> {
+				try {
+					sum.add(task.get().getTime());
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		return sum.sum();
+	}
+
+	@Benchmark
+	public long baseline() throws InterruptedException {
+		Date date = new Date(0);
+		return fanOut(() -> date);
+	}
+
+	@Benchmark
+	public long bound() throws InterruptedException {
+		return fanOut(() -> bound.getDate(TEXT, TimeUtil.DateType.C));
+	}
+
+	@Benchmark
+	public long scoped() throws InterruptedException {
+		return fanOut(() -> TimeUtil.use(TimeUtil.Engine.ED, () -> TimeUtil.getDate(TEXT, TimeUtil.DateType.C)));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(TimeUtilFanOutBenchmark.class.getSimpleName()).build()).run();
+	}
+}
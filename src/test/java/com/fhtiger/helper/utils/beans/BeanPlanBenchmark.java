@@ -0,0 +1,207 @@
+package com.fhtiger.helper.utils.beans;
+
+import com.fhtiger.helper.utils.SpecialUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BeanPlanBenchmark
+ * 属性复制与克隆：{@link BeanPlan}(及经由它的{@link SpecialUtil#copyProps(Object, Object)}、{@link SpecialUtil#cloneByProps(Object)})
+ * 对比原先每次调用都经{@link Introspector}内省再以{@link Method#invoke(Object, Object...)}读写的实现，并以手写复制为下限
+ *
+ * @author Chivenh
+ * @since 2026年10月18日 23:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanPlanBenchmark {
+
+	private Dto source;
+
+	private Dto target;
+
+	private BeanPlan<Dto> plan;
+
+	@Setup
+	public void setup() {
+		source = new Dto();
+		source.setId(42L);
+		source.setName("Chivenh");
+		source.setAge(30);
+		source.setEnabled(Boolean.TRUE);
+		source.setAmount(new BigDecimal("1024.50"));
+		source.setCreated(new Date(1587885840000L));
+		source.setRemark("remark");
+		target = new Dto();
+		plan = BeanPlan.of(Dto.class);
+	}
+
+	@Benchmark
+	public Dto handWritten() {
+		Dto cur = target;
+		cur.setId(source.getId());
+		cur.setName(source.getName());
+		cur.setAge(source.getAge());
+		cur.setEnabled(source.getEnabled());
+		cur.setAmount(source.getAmount());
+		cur.setCreated(source.getCreated());
+		cur.setRemark(source.getRemark());
+		cur.setScore(source.getScore());
+		return cur;
+	}
+
+	@Benchmark
+	public Dto planCopy() {
+		return plan.copy(source, target);
+	}
+
+	@Benchmark
+	public Dto copyProps() {
+		return SpecialUtil.copyProps(source, target);
+	}
+
+	@Benchmark
+	public Dto legacyCopyProps() throws Exception {
+		return legacyCopy(source, target);
+	}
+
+	@Benchmark
+	public Dto cloneByProps() {
+		return SpecialUtil.cloneByProps(source);
+	}
+
+	@Benchmark
+	public Dto legacyCloneByProps() throws Exception {
+		return legacyCopy(source, Dto.class.getDeclaredConstructor().newInstance());
+	}
+
+	/**
+	 * 原先copyProps/cloneByProps的复制过程
+	 */
+	private static <T> T legacyCopy(T pre, T cur) throws Exception {
+		BeanInfo beanInfo = Introspector.getBeanInfo(pre.getClass());
+		for (PropertyDescriptor pd : beanInfo.getPropertyDescriptors()) {
+			if (!"class".equalsIgnoreCase(pd.getName())) {
+				Method get = pd.getReadMethod();
+				Method set = pd.getWriteMethod();
+				if (get != null) {
+					Object value = get.invoke(pre);
+					if (value != null && set != null) {
+						set.invoke(cur, value);
+					}
+				}
+			}
+		}
+		return cur;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(BeanPlanBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	public static class Dto {
+
+		private Long id;
+
+		private String name;
+
+		private int age;
+
+		private Boolean enabled;
+
+		private BigDecimal amount;
+
+		private Date created;
+
+		private String remark;
+
+		private double score;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public Boolean getEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(Boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public void setAmount(BigDecimal amount) {
+			this.amount = amount;
+		}
+
+		public Date getCreated() {
+			return created;
+		}
+
+		public void setCreated(Date created) {
+			this.created = created;
+		}
+
+		public String getRemark() {
+			return remark;
+		}
+
+		public void setRemark(String remark) {
+			this.remark = remark;
+		}
+
+		public double getScore() {
+			return score;
+		}
+
+		public void setScore(double score) {
+			this.score = score;
+		}
+	}
+}